@@ -0,0 +1,117 @@
+/**
+ * LIZENZBEDINGUNGEN - Seanox Software Solutions ist ein Open-Source-Projekt,
+ * im Folgenden Seanox Software Solutions oder kurz Seanox genannt.
+ * Diese Software unterliegt der Version 2 der GNU General Public License.
+ *
+ * Seanox Test SDK
+ * Copyright (C) 2026 Seanox Software Solutions
+ *
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of version 2 of the GNU General Public License as published
+ * by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.seanox.test.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of the reflective access of {@link Accession}.<br>
+ * <br>
+ * AccessionBenchmark 1.0 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
+ * All rights reserved.
+ *
+ * @author  Seanox Software Solutions
+ * @version 1.0 20261019
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccessionBenchmark {
+
+    /** object of the access */
+    private Sample sample;
+
+    /** Internal object with fields and methods for the access. */
+    private static class Sample {
+
+        /** text */
+        private String text = "Hello World";
+
+        /** number */
+        private int number = 42;
+
+        /**
+         * Returns the text.
+         * @return the text
+         */
+        private String getText() {
+            return this.text;
+        }
+    }
+
+    /** Creates the object of the access. */
+    @Setup
+    public void setup() {
+        this.sample = new Sample();
+    }
+
+    /**
+     * Benchmark of {@link Accession#get(Object, String)} with an object.
+     * @return the value of the field
+     * @throws Exception
+     *     In case of unexpected errors.
+     */
+    @Benchmark
+    public Object get()
+            throws Exception {
+        return Accession.get(this.sample, "text");
+    }
+
+    /**
+     * Benchmark of {@link Accession#get(Object, String)} with a primitive.
+     * @return the value of the field
+     * @throws Exception
+     *     In case of unexpected errors.
+     */
+    @Benchmark
+    public Object getPrimitive()
+            throws Exception {
+        return Accession.get(this.sample, "number");
+    }
+
+    /**
+     * Benchmark of {@link Accession#invoke(Object, String)}.
+     * @return the return value of the method
+     * @throws Exception
+     *     In case of unexpected errors.
+     */
+    @Benchmark
+    public Object invoke()
+            throws Exception {
+        return Accession.invoke(this.sample, "getText");
+    }
+}
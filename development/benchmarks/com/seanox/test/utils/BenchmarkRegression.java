@@ -0,0 +1,454 @@
+/**
+ * LIZENZBEDINGUNGEN - Seanox Software Solutions ist ein Open-Source-Projekt,
+ * im Folgenden Seanox Software Solutions oder kurz Seanox genannt.
+ * Diese Software unterliegt der Version 2 der GNU General Public License.
+ *
+ * Seanox Test SDK
+ * Copyright (C) 2026 Seanox Software Solutions
+ *
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of version 2 of the GNU General Public License as published
+ * by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.seanox.test.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Comparison of JMH benchmark results (JSON) of a release with a baseline,
+ * e.g. of a previous release. For each benchmark, the raw data of the
+ * iterations are compared with Welch's t-test. A regression is a change in
+ * the worse direction beyond the threshold (percent), which is significant
+ * at the level alpha. Regressions end the program with exit code 1, so that
+ * the build target fails.
+ *
+ * <h3>Usage</h3>
+ * <pre>
+ * BenchmarkRegression &lt;baseline&gt; &lt;current&gt; [threshold] [alpha]
+ * </pre>
+ * BenchmarkRegression 1.0 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
+ * All rights reserved.
+ *
+ * @author  Seanox Software Solutions
+ * @version 1.0 20261019
+ */
+public class BenchmarkRegression {
+
+    /** Constructor, creates a new BenchmarkRegression object. */
+    private BenchmarkRegression() {
+        return;
+    }
+
+    /**
+     * Main entry of the comparison.
+     * @param  options baseline, current results, threshold in percent
+     *     (default 10) and alpha (default 0.01)
+     * @throws Exception
+     *     In case of unexpected errors.
+     */
+    public static void main(String[] options)
+            throws Exception {
+
+        if (options == null
+                || options.length < 2) {
+            System.out.println("usage: BenchmarkRegression <baseline> <current> [threshold] [alpha]");
+            System.exit(2);
+        }
+
+        double threshold = options.length > 2 ? Double.parseDouble(options[2]) : 10;
+        double alpha = options.length > 3 ? Double.parseDouble(options[3]) : 0.01;
+
+        Map<String, Result> baseline = BenchmarkRegression.load(options[0]);
+        Map<String, Result> current = BenchmarkRegression.load(options[1]);
+
+        int regressions = 0;
+        System.out.println(String.format(Locale.ENGLISH, "%-72s %14s %14s %9s %8s", "Benchmark", "Baseline", "Current", "Change", "p"));
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result result = entry.getValue();
+            Result reference = baseline.get(entry.getKey());
+            if (reference == null) {
+                System.out.println(String.format(Locale.ENGLISH, "%-72s %14s %14.3f %9s %8s  new",
+                        entry.getKey(), "-", Double.valueOf(result.mean()), "-", "-"));
+                continue;
+            }
+            if (!reference.unit.equals(result.unit)
+                    || !reference.mode.equals(result.mode)) {
+                System.out.println(String.format(Locale.ENGLISH, "%-72s %14s %14s %9s %8s  incomparable (%s, %s)",
+                        entry.getKey(), reference.unit, result.unit, "-", "-", reference.mode, result.mode));
+                continue;
+            }
+
+            double change = (result.mean() -reference.mean()) /reference.mean() *100;
+            double probability = BenchmarkRegression.testWelch(reference.samples, result.samples);
+
+            // with throughput, larger values are better, otherwise smaller
+            double worse = "thrpt".equals(result.mode) ? -change : change;
+            String status = "";
+            if (worse > threshold
+                    && probability < alpha) {
+                status = "  REGRESSION";
+                regressions++;
+            } else if (-worse > threshold
+                    && probability < alpha)
+                status = "  improvement";
+            System.out.println(String.format(Locale.ENGLISH, "%-72s %14.3f %14.3f %+8.2f%% %8.4f%s",
+                    entry.getKey(), Double.valueOf(reference.mean()), Double.valueOf(result.mean()),
+                    Double.valueOf(change), Double.valueOf(probability), status));
+        }
+
+        System.out.println();
+        System.out.println(String.format(Locale.ENGLISH, "%d regression(s) beyond %.1f%% (alpha %.4f)",
+                Integer.valueOf(regressions), Double.valueOf(threshold), Double.valueOf(alpha)));
+        if (regressions > 0)
+            System.exit(1);
+    }
+
+    /**
+     * Returns the two-sided p-value of Welch's t-test for two samples.
+     * With less than two values per sample, the difference is not
+     * considered significant.
+     * @param  samples1 samples 1
+     * @param  samples2 samples 2
+     * @return the two-sided p-value
+     */
+    private static double testWelch(double[] samples1, double[] samples2) {
+
+        if (samples1.length < 2
+                || samples2.length < 2)
+            return 1;
+
+        double mean1 = BenchmarkRegression.mean(samples1);
+        double mean2 = BenchmarkRegression.mean(samples2);
+        double error1 = BenchmarkRegression.variance(samples1, mean1) /samples1.length;
+        double error2 = BenchmarkRegression.variance(samples2, mean2) /samples2.length;
+        if (error1 +error2 <= 0)
+            return mean1 == mean2 ? 1 : 0;
+
+        double value = (mean1 -mean2) /Math.sqrt(error1 +error2);
+        double freedom = (error1 +error2) *(error1 +error2)
+                /(error1 *error1 /(samples1.length -1) +error2 *error2 /(samples2.length -1));
+        return 2 *(1 -Benchmark.Statistics.distributionStudentT(Math.abs(value), freedom));
+    }
+
+    /**
+     * Returns the mean of samples.
+     * @param  samples samples
+     * @return the mean
+     */
+    private static double mean(double[] samples) {
+
+        double sum = 0;
+        for (double sample : samples)
+            sum += sample;
+        return sum /samples.length;
+    }
+
+    /**
+     * Returns the sample variance of samples.
+     * @param  samples samples
+     * @param  mean    mean of the samples
+     * @return the variance
+     */
+    private static double variance(double[] samples, double mean) {
+
+        double sum = 0;
+        for (double sample : samples)
+            sum += (sample -mean) *(sample -mean);
+        return sum /(samples.length -1);
+    }
+
+    /**
+     * Loads the results of a JMH JSON file.
+     * The results are keyed by the benchmark and the parameters.
+     * @param  file JMH JSON file
+     * @return the results by benchmark
+     * @throws IOException
+     *     In case of faulty data access or invalid data.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Result> load(String file)
+            throws IOException {
+
+        String json = new String(Files.readAllBytes(Paths.get(file)), StandardCharsets.UTF_8);
+        Object data = new Parser(json).parse();
+        if (!(data instanceof List))
+            throw new IOException("Invalid benchmark results: " + file);
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (Object object : (List<Object>)data) {
+            Map<String, Object> benchmark = (Map<String, Object>)object;
+            String key = (String)benchmark.get("benchmark");
+            if (benchmark.get("params") instanceof Map)
+                key += new TreeMap<>((Map<String, Object>)benchmark.get("params"));
+            Map<String, Object> metric = (Map<String, Object>)benchmark.get("primaryMetric");
+
+            // non-numeric values (JMH writes NaN and Infinity as strings)
+            // are ignored, without numeric values the benchmark is ignored
+            List<Double> values = new ArrayList<>();
+            if (metric.get("rawData") instanceof List)
+                for (Object fork : (List<Object>)metric.get("rawData"))
+                    if (fork instanceof List)
+                        for (Object value : (List<Object>)fork)
+                            if (value instanceof Double
+                                    && Double.isFinite(((Double)value).doubleValue()))
+                                values.add((Double)value);
+            if (values.isEmpty()
+                    && metric.get("score") instanceof Double
+                    && Double.isFinite(((Double)metric.get("score")).doubleValue()))
+                values.add((Double)metric.get("score"));
+            if (values.isEmpty())
+                continue;
+
+            Result result = new Result();
+            result.mode = String.valueOf(benchmark.get("mode"));
+            result.unit = String.valueOf(metric.get("scoreUnit"));
+            result.samples = values.stream().mapToDouble(Double::doubleValue).toArray();
+            results.put(key, result);
+        }
+        return results;
+    }
+
+    /** Internal result of a benchmark. */
+    private static class Result {
+
+        /** mode of the benchmark (e.g. avgt, thrpt) */
+        private String mode;
+
+        /** unit of the score */
+        private String unit;
+
+        /** raw data of the iterations */
+        private double[] samples;
+
+        /**
+         * Returns the mean of the raw data.
+         * @return the mean of the raw data
+         */
+        private double mean() {
+            return BenchmarkRegression.mean(this.samples);
+        }
+    }
+
+    /**
+     * Internal minimal parser of JSON, for objects (Map), arrays (List),
+     * strings, numbers (Double), booleans and null.
+     */
+    private static class Parser {
+
+        /** JSON text */
+        private final String text;
+
+        /** current position */
+        private int index;
+
+        /**
+         * Constructor, creates a new Parser object.
+         * @param text JSON text
+         */
+        private Parser(String text) {
+            this.text = text;
+        }
+
+        /**
+         * Parses the JSON text.
+         * @return the parsed value
+         * @throws IOException
+         *     In case of invalid data.
+         */
+        private Object parse()
+                throws IOException {
+
+            Object value = this.parseValue();
+            this.skipWhitespace();
+            if (this.index < this.text.length())
+                throw new IOException("Invalid JSON at " + this.index);
+            return value;
+        }
+
+        /**
+         * Returns the character at the current position.
+         * @return the character at the current position
+         * @throws IOException
+         *     At the end of the text.
+         */
+        private char current()
+                throws IOException {
+
+            if (this.index >= this.text.length())
+                throw new IOException("Invalid JSON, unexpected end");
+            return this.text.charAt(this.index);
+        }
+
+        /**
+         * Returns the character at the current position and moves to the
+         * next position.
+         * @return the character at the current position
+         * @throws IOException
+         *     At the end of the text.
+         */
+        private char next()
+                throws IOException {
+
+            char digit = this.current();
+            this.index++;
+            return digit;
+        }
+
+        /** Skips whitespace at the current position. */
+        private void skipWhitespace() {
+            while (this.index < this.text.length()
+                    && Character.isWhitespace(this.text.charAt(this.index)))
+                this.index++;
+        }
+
+        /**
+         * Expects a character at the current position.
+         * @param  expected expected character
+         * @throws IOException
+         *     If the character does not match.
+         */
+        private void expect(char expected)
+                throws IOException {
+
+            this.skipWhitespace();
+            if (this.index >= this.text.length()
+                    || this.text.charAt(this.index) != expected)
+                throw new IOException("Invalid JSON at " + this.index + ", expected " + expected);
+            this.index++;
+        }
+
+        /**
+         * Parses a value at the current position.
+         * @return the parsed value
+         * @throws IOException
+         *     In case of invalid data.
+         */
+        private Object parseValue()
+                throws IOException {
+
+            this.skipWhitespace();
+            if (this.index >= this.text.length())
+                throw new IOException("Invalid JSON, unexpected end");
+            char digit = this.text.charAt(this.index);
+            if (digit == '{') {
+                Map<String, Object> map = new LinkedHashMap<>();
+                this.index++;
+                this.skipWhitespace();
+                if (this.current() == '}') {
+                    this.index++;
+                    return map;
+                }
+                do {
+                    this.skipWhitespace();
+                    String key = this.parseString();
+                    this.expect(':');
+                    map.put(key, this.parseValue());
+                    this.skipWhitespace();
+                } while (this.next() == ',');
+                if (this.text.charAt(this.index -1) != '}')
+                    throw new IOException("Invalid JSON at " + (this.index -1));
+                return map;
+            }
+            if (digit == '[') {
+                List<Object> list = new ArrayList<>();
+                this.index++;
+                this.skipWhitespace();
+                if (this.current() == ']') {
+                    this.index++;
+                    return list;
+                }
+                do {
+                    list.add(this.parseValue());
+                    this.skipWhitespace();
+                } while (this.next() == ',');
+                if (this.text.charAt(this.index -1) != ']')
+                    throw new IOException("Invalid JSON at " + (this.index -1));
+                return list;
+            }
+            if (digit == '"')
+                return this.parseString();
+            if (this.text.startsWith("true", this.index)) {
+                this.index += 4;
+                return Boolean.TRUE;
+            }
+            if (this.text.startsWith("false", this.index)) {
+                this.index += 5;
+                return Boolean.FALSE;
+            }
+            if (this.text.startsWith("null", this.index)) {
+                this.index += 4;
+                return null;
+            }
+            int start = this.index;
+            while (this.index < this.text.length()
+                    && "+-0123456789.eE".indexOf(this.text.charAt(this.index)) >= 0)
+                this.index++;
+            // JMH writes NaN and Infinity as strings, numbers are parsed here
+            try {return Double.valueOf(this.text.substring(start, this.index));
+            } catch (NumberFormatException exception) {
+                throw new IOException("Invalid JSON at " + start);
+            }
+        }
+
+        /**
+         * Parses a string at the current position.
+         * @return the parsed string
+         * @throws IOException
+         *     In case of invalid data.
+         */
+        private String parseString()
+                throws IOException {
+
+            this.expect('"');
+            StringBuilder builder = new StringBuilder();
+            while (this.index < this.text.length()) {
+                char digit = this.text.charAt(this.index++);
+                if (digit == '"')
+                    return builder.toString();
+                if (digit != '\\') {
+                    builder.append(digit);
+                    continue;
+                }
+                digit = this.next();
+                switch (digit) {
+                    case 'b': builder.append('\b'); break;
+                    case 'f': builder.append('\f'); break;
+                    case 'n': builder.append('\n'); break;
+                    case 'r': builder.append('\r'); break;
+                    case 't': builder.append('\t'); break;
+                    case 'u':
+                        if (this.index +4 > this.text.length())
+                            throw new IOException("Invalid JSON, unexpected end");
+                        try {builder.append((char)Integer.parseInt(this.text.substring(this.index, this.index +4), 16));
+                        } catch (NumberFormatException exception) {
+                            throw new IOException("Invalid JSON at " + this.index);
+                        }
+                        this.index += 4;
+                        break;
+                    default:
+                        builder.append(digit);
+                }
+            }
+            throw new IOException("Invalid JSON, unexpected end");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * LIZENZBEDINGUNGEN - Seanox Software Solutions ist ein Open-Source-Projekt,
+ * im Folgenden Seanox Software Solutions oder kurz Seanox genannt.
+ * Diese Software unterliegt der Version 2 der GNU General Public License.
+ *
+ * Seanox Test SDK
+ * Copyright (C) 2026 Seanox Software Solutions
+ *
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of version 2 of the GNU General Public License as published
+ * by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.seanox.test.utils;
+
+import java.util.Locale;
+
+/**
+ * Sanity check of {@link Benchmark} and its {@link Benchmark.Blackhole}.
+ * An empty task and tasks with allocations are measured. Consumed objects
+ * must neither be eliminated nor cause costs beyond the allocation, so the
+ * differences of the means must stay within a limit (nanoseconds per
+ * operation). Exceeding ends the program with exit code 1.
+ *
+ * <h3>Usage</h3>
+ * <pre>
+ * BenchmarkSanity [limit]
+ * </pre>
+ * BenchmarkSanity 1.0 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
+ * All rights reserved.
+ *
+ * @author  Seanox Software Solutions
+ * @version 1.0 20261019
+ */
+public class BenchmarkSanity {
+
+    /** text for the allocations */
+    private static volatile String text = "Seanox Test SDK";
+
+    /** Constructor, creates a new BenchmarkSanity object. */
+    private BenchmarkSanity() {
+        return;
+    }
+
+    /**
+     * Measures the mean time per operation of a task.
+     * @param  task task
+     * @return the mean time per operation in nanoseconds
+     * @throws Exception
+     *     In case of unexpected errors.
+     */
+    private static double measure(Benchmark.Task task)
+            throws Exception {
+        return Benchmark.create().warmup(2000).measure(200).batch(1000).run(task).getMean();
+    }
+
+    /**
+     * Main entry of the sanity check.
+     * @param  options limit in nanoseconds per operation (default 20)
+     * @throws Exception
+     *     In case of unexpected errors.
+     */
+    public static void main(String[] options)
+            throws Exception {
+
+        double limit = options != null && options.length > 0 ? Double.parseDouble(options[0]) : 20;
+
+        // the first round is only the warmup of the JIT compiler
+        double empty = 0, allocation = 0, length = 0, substring = 0;
+        for (int loop = 0; loop < 2; loop++) {
+            empty = BenchmarkSanity.measure(blackhole -> {});
+            allocation = BenchmarkSanity.measure(blackhole -> blackhole.consume(new Object()));
+            length = BenchmarkSanity.measure(blackhole -> blackhole.consume(BenchmarkSanity.text.substring(1).length()));
+            substring = BenchmarkSanity.measure(blackhole -> blackhole.consume(BenchmarkSanity.text.substring(1)));
+        }
+
+        System.out.println(String.format(Locale.ENGLISH, "%-40s %10.3f ns", "empty", Double.valueOf(empty)));
+        System.out.println(String.format(Locale.ENGLISH, "%-40s %10.3f ns", "consume(new Object())", Double.valueOf(allocation)));
+        System.out.println(String.format(Locale.ENGLISH, "%-40s %10.3f ns", "consume(text.substring(1).length())", Double.valueOf(length)));
+        System.out.println(String.format(Locale.ENGLISH, "%-40s %10.3f ns", "consume(text.substring(1))", Double.valueOf(substring)));
+
+        // the allocation is only the costs of the allocation and consuming an
+        // object costs about the same as consuming a primitive value
+        boolean failed = allocation -empty > limit
+                || substring -length > limit;
+        System.out.println();
+        System.out.println(String.format(Locale.ENGLISH, "%s: allocation %+.3f ns, object instead of value %+.3f ns (limit %.1f ns)",
+                failed ? "FAILED" : "passed", Double.valueOf(allocation -empty), Double.valueOf(substring -length), Double.valueOf(limit)));
+        if (failed)
+            System.exit(1);
+    }
+}
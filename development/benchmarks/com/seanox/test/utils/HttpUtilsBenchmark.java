@@ -0,0 +1,96 @@
+/**
+ * LIZENZBEDINGUNGEN - Seanox Software Solutions ist ein Open-Source-Projekt,
+ * im Folgenden Seanox Software Solutions oder kurz Seanox genannt.
+ * Diese Software unterliegt der Version 2 der GNU General Public License.
+ *
+ * Seanox Test SDK
+ * Copyright (C) 2026 Seanox Software Solutions
+ *
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of version 2 of the GNU General Public License as published
+ * by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.seanox.test.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of the parsing of response headers of {@link HttpUtils}.<br>
+ * <br>
+ * HttpUtilsBenchmark 1.0 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
+ * All rights reserved.
+ *
+ * @author  Seanox Software Solutions
+ * @version 1.0 20261019
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HttpUtilsBenchmark {
+
+    /** response as text */
+    private String response;
+
+    /** response as bytes */
+    private byte[] bytes;
+
+    /** Creates the response. */
+    @Setup
+    public void setup() {
+
+        StringBuilder builder = new StringBuilder("HTTP/1.0 200 Success\r\n")
+                .append("Server: Seanox-Devwex/0.0.0 00000000\r\n")
+                .append("Date: Mon, 19 Oct 2026 00:00:00 GMT\r\n")
+                .append("Content-Type: text/plain\r\n")
+                .append("Content-Length: 1024\r\n")
+                .append("Last-Modified: Mon, 19 Oct 2026 00:00:00 GMT\r\n")
+                .append("Connection: close\r\n\r\n");
+        for (int loop = 0; loop < 1024; loop++)
+            builder.append((char)('a' +loop %26));
+        this.response = builder.toString();
+        this.bytes = this.response.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Benchmark of {@link HttpUtils#getResponseHeader(String, String...)}.
+     * @return the found header fields
+     */
+    @Benchmark
+    public String[] getResponseHeader() {
+        return HttpUtils.getResponseHeader(this.response, "Content-Length", "Connection");
+    }
+
+    /**
+     * Benchmark of {@link HttpUtils#getResponseHeader(byte[], String...)}.
+     * @return the found header fields
+     */
+    @Benchmark
+    public String[] getResponseHeaderBytes() {
+        return HttpUtils.getResponseHeader(this.bytes, "Content-Length", "Connection");
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * LIZENZBEDINGUNGEN - Seanox Software Solutions ist ein Open-Source-Projekt,
+ * im Folgenden Seanox Software Solutions oder kurz Seanox genannt.
+ * Diese Software unterliegt der Version 2 der GNU General Public License.
+ *
+ * Seanox Test SDK
+ * Copyright (C) 2026 Seanox Software Solutions
+ *
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of version 2 of the GNU General Public License as published
+ * by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.seanox.test.utils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of the writing of {@link OutputTailStream}.<br>
+ * <br>
+ * OutputTailStreamBenchmark 1.0 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
+ * All rights reserved.
+ *
+ * @author  Seanox Software Solutions
+ * @version 1.0 20261019
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OutputTailStreamBenchmark {
+
+    /** size of the tail */
+    @Param({"1024", "65535"})
+    private int size;
+
+    /** output stream */
+    private OutputTailStream output;
+
+    /** data */
+    private byte[] bytes;
+
+    /** Creates the output stream. */
+    @Setup
+    public void setup() {
+        this.output = new OutputTailStream(this.size);
+        this.bytes = new byte[1024];
+    }
+
+    /**
+     * Benchmark of the writing of single bytes.
+     * @throws IOException
+     *     In case of unexpected errors.
+     */
+    @Benchmark
+    public void write()
+            throws IOException {
+        this.output.write('x');
+    }
+
+    /**
+     * Benchmark of the writing of 1024 bytes.
+     * @throws IOException
+     *     In case of unexpected errors.
+     */
+    @Benchmark
+    public void writeBytes()
+            throws IOException {
+        this.output.write(this.bytes, 0, this.bytes.length);
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * LIZENZBEDINGUNGEN - Seanox Software Solutions ist ein Open-Source-Projekt,
+ * im Folgenden Seanox Software Solutions oder kurz Seanox genannt.
+ * Diese Software unterliegt der Version 2 der GNU General Public License.
+ *
+ * Seanox Test SDK
+ * Copyright (C) 2026 Seanox Software Solutions
+ *
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of version 2 of the GNU General Public License as published
+ * by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.seanox.test.utils;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of the text functions of {@link TextUtils}.<br>
+ * <br>
+ * TextUtilsBenchmark 1.0 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
+ * All rights reserved.
+ *
+ * @author  Seanox Software Solutions
+ * @version 1.0 20261019
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TextUtilsBenchmark {
+
+    /** text without characters to be escaped */
+    private String plain;
+
+    /** text with characters to be escaped */
+    private String text;
+
+    /** escaped text */
+    private String escaped;
+
+    /** words for the phonetic */
+    private String words;
+
+    /** unsorted texts with numbers */
+    private String[] texts;
+
+    /** Creates the texts. */
+    @Setup
+    public void setup() {
+
+        this.plain = "The quick brown fox jumps over the lazy dog 0123456789";
+        this.text = "Line\tA \"quoted\" text\r\nwith 'special' characters \\ \u00E4\u00F6\u00FC\u00DF \u20AC\u0000";
+        this.escaped = TextUtils.escape(this.text);
+        this.words = "Mueller-Luedenscheidt Schmidt Meier Breschnew Wikipedia";
+        this.texts = new String[1000];
+        for (int loop = 0; loop < this.texts.length; loop++)
+            this.texts[loop] = "file-" + ((loop *7919) %1000) + "-part" + (loop %13) + ".txt";
+    }
+
+    /**
+     * Benchmark of {@link TextUtils#escape(String)} without changes.
+     * @return the escaped text
+     */
+    @Benchmark
+    public String escapePlain() {
+        return TextUtils.escape(this.plain);
+    }
+
+    /**
+     * Benchmark of {@link TextUtils#escape(String)}.
+     * @return the escaped text
+     */
+    @Benchmark
+    public String escape() {
+        return TextUtils.escape(this.text);
+    }
+
+    /**
+     * Benchmark of {@link TextUtils#unescape(String)}.
+     * @return the unescaped text
+     */
+    @Benchmark
+    public String unescape() {
+        return TextUtils.unescape(this.escaped);
+    }
+
+    /**
+     * Benchmark of {@link TextUtils#phonetic(String, Locale)}.
+     * @return the phonetic code
+     */
+    @Benchmark
+    public String phonetic() {
+        return TextUtils.phonetic(this.words, Locale.GERMAN);
+    }
+
+    /**
+     * Benchmark of the sorting with {@link TextUtils#NATURAL_COMPARATOR}.
+     * @return the sorted texts
+     */
+    @Benchmark
+    public String[] sortNatural() {
+        String[] texts = this.texts.clone();
+        Arrays.sort(texts, TextUtils.NATURAL_COMPARATOR);
+        return texts;
+    }
+}
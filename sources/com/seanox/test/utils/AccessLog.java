@@ -0,0 +1,1015 @@
+/**
+ * LIZENZBEDINGUNGEN - Seanox Software Solutions ist ein Open-Source-Projekt,
+ * im Folgenden Seanox Software Solutions oder kurz Seanox genannt.
+ * Diese Software unterliegt der Version 2 der GNU General Public License.
+ *
+ * Seanox Test SDK
+ * Copyright (C) 2026 Seanox Software Solutions
+ *
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of version 2 of the GNU General Public License as published
+ * by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.seanox.test.utils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+
+/**
+ * Parser and index of access logs in the format of
+ * {@link Pattern#ACCESS_LOG_STATUS(String)}:
+ * {@code host - user [timestamp] request status length referrer agent}.
+ * The file is parsed in one pass as memory-mapped file. Only the position,
+ * the status and hash values of request and user are kept per line, the
+ * entries are decoded on demand, so that also large logs of soak tests can
+ * be verified fast.<br>
+ * <br>
+ * The queries by request and user use the same normalization as the
+ * patterns: the request is reduced to the first line, trimmed and escaped
+ * with {@link TextUtils#escape(String)}. Text is decoded as ISO-8859-1.<br>
+ * <br>
+ * With {@link #follow(File)} the appended lines of an access log can be
+ * followed and awaited, comparable to
+ * {@link OutputFacadeStream.Capture#await(String, long)}.<br>
+ * <br>
+ * AccessLog 1.0 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
+ * All rights reserved.
+ *
+ * @author  Seanox Software Solutions
+ * @version 1.0 20261019
+ */
+public class AccessLog {
+
+    /** status of lines that do not match the format */
+    public static final int STATUS_INVALID = -2;
+
+    /** maximum size of a mapped segment */
+    private static final int SEGMENT_SIZE = 1 << 30;
+
+    /** size of the blocks copied from the mapped segments */
+    private static final int BLOCK_SIZE = 1 << 20;
+
+    /** number of tokens per line */
+    private static final int TOKENS = 8;
+
+    /** token index of the host */
+    private static final int TOKEN_HOST = 0;
+
+    /** token index of the user */
+    private static final int TOKEN_USER = 1;
+
+    /** token index of the timestamp */
+    private static final int TOKEN_TIMESTAMP = 2;
+
+    /** token index of the request */
+    private static final int TOKEN_REQUEST = 3;
+
+    /** token index of the status */
+    private static final int TOKEN_STATUS = 4;
+
+    /** token index of the length */
+    private static final int TOKEN_LENGTH = 5;
+
+    /** token index of the referrer */
+    private static final int TOKEN_REFERRER = 6;
+
+    /** token index of the agent */
+    private static final int TOKEN_AGENT = 7;
+
+    /** hash value of missing values */
+    private static final int HASH_NONE = 0;
+
+    /** file of the access log */
+    private File file;
+
+    /** number of lines */
+    private int size;
+
+    /** offsets of the lines */
+    private long[] offsets;
+
+    /** lengths of the lines (without line break) */
+    private int[] lengths;
+
+    /** status of the lines */
+    private int[] statuses;
+
+    /** hash values of the requests */
+    private int[] requests;
+
+    /** hash values of the users */
+    private int[] users;
+
+    /** index of the status (lazy) */
+    private volatile long[] statusIndex;
+
+    /** index of the requests (lazy) */
+    private volatile long[] requestIndex;
+
+    /** index of the users (lazy) */
+    private volatile long[] userIndex;
+
+    /** Constructor, creates a new AccessLog object. */
+    private AccessLog() {
+        return;
+    }
+
+    /**
+     * Parses an access log file.
+     * @param  file file
+     * @return the parsed access log
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public static AccessLog parse(File file)
+            throws IOException {
+
+        Objects.requireNonNull(file, "File required");
+
+        AccessLog log = new AccessLog();
+        log.file     = file;
+        log.offsets  = new long[1024];
+        log.lengths  = new int[1024];
+        log.statuses = new int[1024];
+        log.requests = new int[1024];
+        log.users    = new int[1024];
+
+        // the mapped segments are copied block by block, incomplete lines
+        // at the end of a block are kept for the next block
+        int[] tokens = new int[AccessLog.TOKENS *2];
+        byte[] data = new byte[AccessLog.BLOCK_SIZE];
+        int size = 0;
+        long offset = 0;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long total = channel.size();
+            for (long position = 0; position < total;) {
+                int limit = (int)Math.min(total -position, AccessLog.SEGMENT_SIZE);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, limit);
+                position += limit;
+                while (buffer.hasRemaining()) {
+                    if (size >= data.length)
+                        data = Arrays.copyOf(data, data.length *2);
+                    int length = Math.min(buffer.remaining(), data.length -size);
+                    buffer.get(data, size, length);
+                    int start = log.split(data, offset, size, size +length, tokens);
+                    size += length -start;
+                    offset += start;
+                    System.arraycopy(data, start, data, 0, size);
+                }
+            }
+        }
+        if (size > 0)
+            log.add(data, offset, 0, data[size -1] == '\r' ? size -1 : size, tokens);
+        return log;
+    }
+
+    /**
+     * Splits the complete lines of a block and adds them to the log.
+     * @param  data   data of the block
+     * @param  offset position of the block in the file
+     * @param  from   start of the new data in the block
+     * @param  to     end of the data in the block
+     * @param  tokens array for the tokens
+     * @return the start of the incomplete last line
+     */
+    private int split(byte[] data, long offset, int from, int to, int[] tokens) {
+
+        int start = 0;
+        for (int loop = from; loop < to; loop++) {
+            if (data[loop] != '\n')
+                continue;
+            int end = loop;
+            if (end > start
+                    && data[end -1] == '\r')
+                end--;
+            this.add(data, offset, start, end, tokens);
+            start = loop +1;
+        }
+        return start;
+    }
+
+    /**
+     * Follows an access log file from the current end. The appended lines
+     * are read continuously until the follower is closed.
+     * @param  file file
+     * @return the created and started follower
+     */
+    public static Follower follow(File file) {
+
+        Objects.requireNonNull(file, "File required");
+
+        Follower follower = new Follower();
+        follower.file     = file;
+        follower.position = file.length();
+        follower.thread   = new Thread(follower::run, "AccessLog Follower " + file.getName());
+        follower.thread.setDaemon(true);
+        follower.thread.start();
+        return follower;
+    }
+
+    /**
+     * Adds a line to the log, empty lines are ignored.
+     * @param data   data of the block
+     * @param offset position of the block in the file
+     * @param start  start of the line in the block
+     * @param end    end of the line in the block
+     * @param tokens array for the tokens
+     */
+    private void add(byte[] data, long offset, int start, int end, int[] tokens) {
+
+        if (end <= start)
+            return;
+
+        if (this.size >= this.offsets.length) {
+            int capacity = this.offsets.length *2;
+            this.offsets  = Arrays.copyOf(this.offsets, capacity);
+            this.lengths  = Arrays.copyOf(this.lengths, capacity);
+            this.statuses = Arrays.copyOf(this.statuses, capacity);
+            this.requests = Arrays.copyOf(this.requests, capacity);
+            this.users    = Arrays.copyOf(this.users, capacity);
+        }
+
+        this.offsets[this.size] = offset +start;
+        this.lengths[this.size] = end -start;
+        if (AccessLog.tokenize(data, start, end, tokens)) {
+            this.statuses[this.size] = AccessLog.number(data, tokens, AccessLog.TOKEN_STATUS, -1);
+            this.requests[this.size] = AccessLog.hash(data, tokens, AccessLog.TOKEN_REQUEST);
+            this.users[this.size]    = AccessLog.hash(data, tokens, AccessLog.TOKEN_USER);
+        } else this.statuses[this.size] = AccessLog.STATUS_INVALID;
+        this.size++;
+    }
+
+    /**
+     * Determines the end of a quoted value, backslash escapes are skipped.
+     * @param  data   data
+     * @param  start  position of the opening quote
+     * @param  end    end of the line
+     * @return the position of the closing quote, otherwise -1
+     */
+    private static int quote(byte[] data, int start, int end) {
+
+        for (int loop = start +1; loop < end; loop++) {
+            byte code = data[loop];
+            if (code == '\\')
+                loop++;
+            else if (code == '"')
+                return loop;
+        }
+        return -1;
+    }
+
+    /**
+     * Splits a line into the tokens. The tokens are stored as pairs of start
+     * and end of the value (without quotes and brackets), missing values
+     * ({@code -}) as -1.
+     * @param  data   data
+     * @param  start  start of the line
+     * @param  end    end of the line
+     * @param  tokens array for the tokens
+     * @return {@code true} if the line matches the format
+     */
+    private static boolean tokenize(byte[] data, int start, int end, int[] tokens) {
+
+        int cursor = start;
+        while (cursor < end && data[cursor] != ' ')
+            cursor++;
+        if (cursor <= start
+                || cursor +3 > end
+                || data[cursor +1] != '-'
+                || data[cursor +2] != ' ')
+            return false;
+        tokens[AccessLog.TOKEN_HOST *2] = start;
+        tokens[AccessLog.TOKEN_HOST *2 +1] = cursor;
+        cursor += 3;
+
+        for (int token = AccessLog.TOKEN_USER; token < AccessLog.TOKENS; token++) {
+            if (token > AccessLog.TOKEN_USER) {
+                if (cursor >= end
+                        || data[cursor] != ' ')
+                    return false;
+                cursor++;
+            }
+            if (cursor >= end)
+                return false;
+            byte code = data[cursor];
+            int limit;
+            if (code == '-'
+                    && (cursor +1 == end || data[cursor +1] == ' ')) {
+                tokens[token *2] = tokens[token *2 +1] = -1;
+                cursor++;
+                continue;
+            } else if (token == AccessLog.TOKEN_TIMESTAMP) {
+                if (code != '[')
+                    return false;
+                for (limit = cursor +1; limit < end && data[limit] != ']';)
+                    limit++;
+                if (limit >= end || limit == cursor +1)
+                    return false;
+            } else if (token == AccessLog.TOKEN_STATUS
+                    || token == AccessLog.TOKEN_LENGTH) {
+                for (limit = cursor; limit < end && data[limit] >= '0' && data[limit] <= '9';)
+                    limit++;
+                if (limit == cursor)
+                    return false;
+                tokens[token *2] = cursor;
+                tokens[token *2 +1] = limit;
+                cursor = limit;
+                continue;
+            } else if (code != '"') {
+                return false;
+            } else if (token == AccessLog.TOKEN_AGENT) {
+                // the agent is the rest of the line as quoted value
+                limit = end -1;
+                if (limit <= cursor
+                        || data[limit] != '"')
+                    return false;
+            } else {
+                limit = AccessLog.quote(data, cursor, end);
+                if (limit < 0)
+                    return false;
+            }
+            tokens[token *2] = cursor +1;
+            tokens[token *2 +1] = limit;
+            cursor = limit +1;
+        }
+        return cursor == end;
+    }
+
+    /**
+     * Determines the numeric value of a token.
+     * @param  data   data
+     * @param  tokens tokens
+     * @param  token  index of the token
+     * @param  none   value for missing values
+     * @return the numeric value
+     */
+    private static int number(byte[] data, int[] tokens, int token, int none) {
+
+        if (tokens[token *2] < 0)
+            return none;
+        long number = 0;
+        for (int loop = tokens[token *2]; loop < tokens[token *2 +1] && number <= Integer.MAX_VALUE; loop++)
+            number = number *10 +(data[loop] -'0');
+        return (int)Math.min(number, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Determines the hash value (FNV-1a) of a token.
+     * @param  data   data
+     * @param  tokens tokens
+     * @param  token  index of the token
+     * @return the hash value
+     */
+    private static int hash(byte[] data, int[] tokens, int token) {
+
+        if (tokens[token *2] < 0)
+            return AccessLog.HASH_NONE;
+        int hash = 0x811C9DC5;
+        for (int loop = tokens[token *2]; loop < tokens[token *2 +1]; loop++)
+            hash = (hash ^ (data[loop] & 0xFF)) *0x01000193;
+        return hash;
+    }
+
+    /**
+     * Determines the hash value (FNV-1a) of a value.
+     * @param  value value
+     * @return the hash value
+     */
+    private static int hash(byte[] value) {
+
+        if (value == null)
+            return AccessLog.HASH_NONE;
+        int hash = 0x811C9DC5;
+        for (byte code : value)
+            hash = (hash ^ (code & 0xFF)) *0x01000193;
+        return hash;
+    }
+
+    /**
+     * Normalizes a request like {@link Pattern#ACCESS_LOG_STATUS(String, String)}.
+     * @param  request request
+     * @return the normalized request
+     */
+    private static String normalize(String request) {
+
+        if (request == null)
+            return null;
+        request = request.replaceAll("(?s)^\\s*([^\r\n]+).*$", "$1").trim();
+        return TextUtils.escape(request);
+    }
+
+    /**
+     * Creates a sorted index of hash value and line.
+     * @param  values hash values of the lines
+     * @return the created index
+     */
+    private long[] index(int[] values) {
+
+        long[] index = new long[this.size];
+        for (int loop = 0; loop < this.size; loop++)
+            index[loop] = ((long)values[loop] << 32) | loop;
+        Arrays.parallelSort(index);
+        return index;
+    }
+
+    /**
+     * Determines the lines to a hash value in an index.
+     * @param  index index
+     * @param  value hash value
+     * @return the lines in ascending order
+     */
+    private static int[] lookup(long[] index, int value) {
+
+        long key = (long)value << 32;
+        int start = Arrays.binarySearch(index, key);
+        if (start < 0)
+            start = -start -1;
+        int end = start;
+        while (end < index.length
+                && (int)(index[end] >> 32) == value)
+            end++;
+        int[] lines = new int[end -start];
+        for (int loop = start; loop < end; loop++)
+            lines[loop -start] = (int)index[loop];
+        return lines;
+    }
+
+    /**
+     * Filters lines by the exact value of a token.
+     * @param  lines lines
+     * @param  token index of the token
+     * @param  value expected value, {@code null} for missing values
+     * @return the matching lines
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    private int[] verify(int[] lines, int token, byte[] value)
+            throws IOException {
+
+        if (lines.length <= 0)
+            return lines;
+        int[] tokens = new int[AccessLog.TOKENS *2];
+        int count = 0;
+        try (FileChannel channel = FileChannel.open(this.file.toPath(), StandardOpenOption.READ)) {
+            for (int line : lines) {
+                byte[] data = this.read(channel, line);
+                if (!AccessLog.tokenize(data, 0, data.length, tokens))
+                    continue;
+                if (value == null) {
+                    if (tokens[token *2] >= 0)
+                        continue;
+                } else {
+                    if (tokens[token *2] < 0
+                            || tokens[token *2 +1] -tokens[token *2] != value.length)
+                        continue;
+                    boolean match = true;
+                    for (int loop = 0; match && loop < value.length; loop++)
+                        match = data[tokens[token *2] +loop] == value[loop];
+                    if (!match)
+                        continue;
+                }
+                lines[count++] = line;
+            }
+        }
+        return Arrays.copyOf(lines, count);
+    }
+
+    /**
+     * Reads a line from the file.
+     * @param  channel channel of the file
+     * @param  line    index of the line
+     * @return the read line
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    private byte[] read(FileChannel channel, int line)
+            throws IOException {
+
+        ByteBuffer buffer = ByteBuffer.allocate(this.lengths[line]);
+        for (long position = this.offsets[line]; buffer.hasRemaining();) {
+            int size = channel.read(buffer, position +buffer.position());
+            if (size < 0)
+                throw new IOException("Unexpected end of file");
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Returns the file of the access log.
+     * @return the file of the access log
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Returns the number of lines.
+     * @return the number of lines
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the status of a line.
+     * @param  index index of the line
+     * @return the status, -1 without status and {@link #STATUS_INVALID}
+     *     for lines that do not match the format
+     */
+    public int getStatus(int index) {
+
+        if (index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException();
+        return this.statuses[index];
+    }
+
+    /**
+     * Returns the decoded entry of a line.
+     * @param  index index of the line
+     * @return the entry, {@code null} if the line does not match the format
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public Entry getEntry(int index)
+            throws IOException {
+        return this.getEntries(index)[0];
+    }
+
+    /**
+     * Returns the decoded entries of lines.
+     * @param  indices indices of the lines
+     * @return the entries, {@code null} for lines that do not match the
+     *     format
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public Entry[] getEntries(int... indices)
+            throws IOException {
+
+        if (indices == null)
+            return new Entry[0];
+        for (int index : indices)
+            if (index < 0 || index >= this.size)
+                throw new IndexOutOfBoundsException();
+        Entry[] entries = new Entry[indices.length];
+        try (FileChannel channel = FileChannel.open(this.file.toPath(), StandardOpenOption.READ)) {
+            for (int loop = 0; loop < indices.length; loop++)
+                entries[loop] = Entry.parse(this.read(channel, indices[loop]));
+        }
+        return entries;
+    }
+
+    /**
+     * Counts the lines with a status.
+     * @param  status status, -1 for lines without status
+     * @return the number of lines
+     */
+    public int count(int status) {
+        return this.findByStatus(status).length;
+    }
+
+    /**
+     * Determines the lines with a status.
+     * @param  status status, -1 for lines without status
+     * @return the indices of the lines in ascending order
+     */
+    public int[] findByStatus(int status) {
+
+        if (this.statusIndex == null)
+            this.statusIndex = this.index(this.statuses);
+        return AccessLog.lookup(this.statusIndex, status);
+    }
+
+    /**
+     * Determines the lines with a request. The request is normalized like
+     * {@link Pattern#ACCESS_LOG_STATUS(String, String)}.
+     * @param  request request, {@code null} for lines without request
+     * @return the indices of the lines in ascending order
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public int[] findByRequest(String request)
+            throws IOException {
+
+        request = AccessLog.normalize(request);
+        byte[] value = request != null ? request.getBytes(StandardCharsets.ISO_8859_1) : null;
+        if (this.requestIndex == null)
+            this.requestIndex = this.index(this.requests);
+        return this.verify(AccessLog.lookup(this.requestIndex, AccessLog.hash(value)), AccessLog.TOKEN_REQUEST, value);
+    }
+
+    /**
+     * Determines the lines with a user.
+     * @param  user user, {@code null} for lines without user
+     * @return the indices of the lines in ascending order
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public int[] findByUser(String user)
+            throws IOException {
+
+        byte[] value = user != null ? user.getBytes(StandardCharsets.ISO_8859_1) : null;
+        if (this.userIndex == null)
+            this.userIndex = this.index(this.users);
+        return this.verify(AccessLog.lookup(this.userIndex, AccessLog.hash(value)), AccessLog.TOKEN_USER, value);
+    }
+
+    /**
+     * Determines the lines that do not match the format.
+     * @return the indices of the lines in ascending order
+     */
+    public int[] findInvalid() {
+        return this.findByStatus(AccessLog.STATUS_INVALID);
+    }
+
+    /** Decoded entry of the access log. */
+    public static class Entry {
+
+        /** line */
+        private String line;
+
+        /** host */
+        private String host;
+
+        /** user */
+        private String user;
+
+        /** timestamp */
+        private String timestamp;
+
+        /** request */
+        private String request;
+
+        /** status */
+        private int status;
+
+        /** length */
+        private long length;
+
+        /** referrer */
+        private String referrer;
+
+        /** agent */
+        private String agent;
+
+        /** Constructor, creates a new Entry object. */
+        private Entry() {
+            return;
+        }
+
+        /**
+         * Decodes a token as text.
+         * @param  data   data
+         * @param  tokens tokens
+         * @param  token  index of the token
+         * @return the decoded text, {@code null} for missing values
+         */
+        private static String decode(byte[] data, int[] tokens, int token) {
+
+            if (tokens[token *2] < 0)
+                return null;
+            return new String(data, tokens[token *2], tokens[token *2 +1] -tokens[token *2], StandardCharsets.ISO_8859_1);
+        }
+
+        /**
+         * Decodes a line.
+         * @param  data line
+         * @return the entry, {@code null} if the line does not match the
+         *     format
+         */
+        private static Entry parse(byte[] data) {
+
+            int[] tokens = new int[AccessLog.TOKENS *2];
+            if (!AccessLog.tokenize(data, 0, data.length, tokens))
+                return null;
+            Entry entry = new Entry();
+            entry.line      = new String(data, StandardCharsets.ISO_8859_1);
+            entry.host      = Entry.decode(data, tokens, AccessLog.TOKEN_HOST);
+            entry.user      = Entry.decode(data, tokens, AccessLog.TOKEN_USER);
+            entry.timestamp = Entry.decode(data, tokens, AccessLog.TOKEN_TIMESTAMP);
+            entry.request   = Entry.decode(data, tokens, AccessLog.TOKEN_REQUEST);
+            entry.status    = AccessLog.number(data, tokens, AccessLog.TOKEN_STATUS, -1);
+            entry.length    = tokens[AccessLog.TOKEN_LENGTH *2] < 0 ? -1
+                    : Long.parseLong(Entry.decode(data, tokens, AccessLog.TOKEN_LENGTH));
+            entry.referrer  = Entry.decode(data, tokens, AccessLog.TOKEN_REFERRER);
+            entry.agent     = Entry.decode(data, tokens, AccessLog.TOKEN_AGENT);
+            return entry;
+        }
+
+        /**
+         * Decodes a line.
+         * @param  line line
+         * @return the entry, {@code null} if the line does not match the
+         *     format
+         */
+        public static Entry parse(String line) {
+
+            if (line == null)
+                return null;
+            line = line.replaceAll("[\r\n]+$", "");
+            return Entry.parse(line.getBytes(StandardCharsets.ISO_8859_1));
+        }
+
+        /**
+         * Returns the host.
+         * @return the host
+         */
+        public String getHost() {
+            return this.host;
+        }
+
+        /**
+         * Returns the user.
+         * @return the user, {@code null} without user
+         */
+        public String getUser() {
+            return this.user;
+        }
+
+        /**
+         * Returns the timestamp.
+         * @return the timestamp
+         */
+        public String getTimestamp() {
+            return this.timestamp;
+        }
+
+        /**
+         * Returns the request (escaped, as in the log).
+         * @return the request, {@code null} without request
+         */
+        public String getRequest() {
+            return this.request;
+        }
+
+        /**
+         * Returns the status.
+         * @return the status, -1 without status
+         */
+        public int getStatus() {
+            return this.status;
+        }
+
+        /**
+         * Returns the length.
+         * @return the length, -1 without length
+         */
+        public long getLength() {
+            return this.length;
+        }
+
+        /**
+         * Returns the referrer.
+         * @return the referrer, {@code null} without referrer
+         */
+        public String getReferrer() {
+            return this.referrer;
+        }
+
+        /**
+         * Returns the agent.
+         * @return the agent, {@code null} without agent
+         */
+        public String getAgent() {
+            return this.agent;
+        }
+
+        @Override
+        public String toString() {
+            return this.line;
+        }
+    }
+
+    /**
+     * Follower of an access log file.
+     * The follower keeps the read position and reads only the appended data.
+     * Complete lines are retained until {@link #clear()} and waiting threads
+     * are woken immediately. Each waiter tests each line only once with a
+     * compiled pattern, regardless of the number of lines already retained.
+     * If the file is truncated, the follower continues at the beginning.
+     */
+    public static class Follower implements Closeable {
+
+        /** interval of the polling in milliseconds */
+        private static final long INTERVAL = 10;
+
+        /** maximum number of cached patterns */
+        private static final int PATTERNS_LIMIT = 1024;
+
+        /** cache of compiled patterns */
+        private static final Map<String, java.util.regex.Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+        /** file of the access log */
+        private File file;
+
+        /** read position in the file */
+        private long position;
+
+        /** data of the incomplete last line */
+        private byte[] partial;
+
+        /** size of the incomplete last line */
+        private int size;
+
+        /** retained lines */
+        private List<String> lines;
+
+        /** number of lines removed by clear */
+        private long base;
+
+        /** thread of the follower */
+        private Thread thread;
+
+        /** indicator for: was closed */
+        private volatile boolean closed;
+
+        /** Constructor, creates a new Follower object. */
+        private Follower() {
+
+            this.partial = new byte[1024];
+            this.lines   = new ArrayList<>();
+        }
+
+        /** Main loop of the follower. */
+        private void run() {
+
+            while (!this.closed) {
+                try {this.poll();
+                } catch (IOException exception) {
+                    // the file can be temporarily unavailable, e.g. rotation
+                }
+                try {Thread.sleep(Follower.INTERVAL);
+                } catch (InterruptedException exception) {
+                    break;
+                }
+            }
+            synchronized (this) {
+                this.notifyAll();
+            }
+        }
+
+        /**
+         * Reads the appended data of the file.
+         * @throws IOException
+         *     In case of faulty data access.
+         */
+        private void poll()
+                throws IOException {
+
+            long length = this.file.length();
+            if (length < this.position) {
+                this.position = 0;
+                this.size = 0;
+            }
+            if (length == this.position)
+                return;
+
+            List<String> lines = new ArrayList<>();
+            try (FileChannel channel = FileChannel.open(this.file.toPath(), StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocate((int)Math.min(length -this.position, 65536));
+                for (int size; (size = channel.read(buffer, this.position)) > 0; buffer.clear()) {
+                    this.position += size;
+                    byte[] data = buffer.array();
+                    for (int loop = 0; loop < size; loop++) {
+                        if (data[loop] != '\n') {
+                            if (this.size >= this.partial.length)
+                                this.partial = Arrays.copyOf(this.partial, this.partial.length *2);
+                            this.partial[this.size++] = data[loop];
+                            continue;
+                        }
+                        int end = this.size;
+                        if (end > 0
+                                && this.partial[end -1] == '\r')
+                            end--;
+                        if (end > 0)
+                            lines.add(new String(this.partial, 0, end, StandardCharsets.ISO_8859_1));
+                        this.size = 0;
+                    }
+                }
+            }
+
+            if (lines.isEmpty())
+                return;
+            synchronized (this) {
+                this.lines.addAll(lines);
+                this.notifyAll();
+            }
+        }
+
+        /**
+         * Returns the retained lines.
+         * @return the retained lines
+         */
+        public synchronized String[] getLines() {
+            return this.lines.toArray(new String[0]);
+        }
+
+        /** Removes all retained lines. */
+        public synchronized void clear() {
+
+            this.base += this.lines.size();
+            this.lines.clear();
+        }
+
+        /**
+         * Waits until a retained line matches the pattern.
+         * Without the pattern, the method will block.
+         * @param  pattern pattern, e.g. {@link Pattern#ACCESS_LOG_STATUS_200}
+         * @return the matching line
+         * @throws InterruptedException
+         */
+        public String await(String pattern)
+                throws InterruptedException {
+            try {return this.await(pattern, -1);
+            } catch (TimeoutException exception) {
+                return null;
+            }
+        }
+
+        /**
+         * Waits until a retained line matches the pattern.
+         * Optionally, a timeout can be specified if the methods should not
+         * block endlessly.
+         * @param  pattern pattern, e.g. {@link Pattern#ACCESS_LOG_STATUS_200}
+         * @param  timeout timeout in milliseconds, -1 without timeout
+         * @return the matching line
+         * @throws TimeoutException
+         *     In case when a timeout has been set that has been exceeded.
+         * @throws InterruptedException
+         */
+        public String await(String pattern, long timeout)
+                throws TimeoutException, InterruptedException {
+
+            if (pattern == null
+                    || pattern.trim().isEmpty())
+                throw new IllegalArgumentException("Invalid pattern");
+
+            java.util.regex.Pattern compiled = Follower.PATTERNS.get(pattern);
+            if (compiled == null) {
+                if (Follower.PATTERNS.size() >= Follower.PATTERNS_LIMIT)
+                    Follower.PATTERNS.clear();
+                compiled = java.util.regex.Pattern.compile(pattern);
+                Follower.PATTERNS.put(pattern, compiled);
+            }
+            Matcher matcher = compiled.matcher("");
+
+            long timing = System.currentTimeMillis();
+            synchronized (this) {
+                for (long cursor = this.base;;) {
+                    for (cursor = Math.max(cursor, this.base); cursor -this.base < this.lines.size(); cursor++) {
+                        String line = this.lines.get((int)(cursor -this.base));
+                        if (matcher.reset(line).matches())
+                            return line;
+                    }
+                    if (this.closed)
+                        throw new IllegalStateException("Follower closed");
+                    if (timeout >= 0) {
+                        long remaining = timing +timeout -System.currentTimeMillis();
+                        if (remaining <= 0)
+                            throw new TimeoutException();
+                        this.wait(remaining);
+                    } else this.wait();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+
+            this.closed = true;
+            this.thread.interrupt();
+            synchronized (this) {
+                this.notifyAll();
+            }
+        }
+
+        /** TimeoutException */
+        public class TimeoutException extends Exception {
+
+            private static final long serialVersionUID = 2217407640952453790L;
+        }
+    }
+}
\ No newline at end of file
@@ -4,7 +4,7 @@
  * Diese Software unterliegt der Version 2 der GNU General Public License.
  *
  * Seanox Test SDK
- * Copyright (C) 2018 Seanox Software Solutions
+ * Copyright (C) 2026 Seanox Software Solutions
  *
  * This program is free software; you can redistribute it and/or modify it
  * under the terms of version 2 of the GNU General Public License as published
@@ -22,37 +22,94 @@
 package com.seanox.test.utils;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * Accession provides low-level access methods to constructors, fields, and
  * methods of any Java object, even those that are not public or in a 
  * superclass. Failed accesses and releases can cause various exceptions.<br>
  * <br>
- * Accession 2.0.1 20180107<br>
- * Copyright (C) 2018 Seanox Software Solutions<br>
+ * The metadata of the classes (fields and methods of the class hierarchy)
+ * are determined once per class and cached, so that repeated accesses do not
+ * walk the class hierarchy again. Values of fields and methods are accessed
+ * via cached {@link FieldAccessor} and {@link MethodAccessor} based on method
+ * handles.<br>
+ * <br>
+ * Accession 2.4.0 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
  * All rights reserved.
  *
  * @author  Seanox Software Solutions
- * @version 2.0.1 20180107
+ * @version 2.4.0 20261019
  */
 public class Accession {
 
+    /** cache of the metadata per class */
+    private static final ClassValue<Metadata> METADATA = new ClassValue<Metadata>() {
+        @Override
+        protected Metadata computeValue(Class<?> type) {
+            return new Metadata(type);
+        }
+    };
+
+    /** lookup for the method handles of the accessors */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
     /** Constructor, creates a new Accession object. */
     private Accession() {
         return;
     }
 
+    /**
+     * Makes an accessible object accessible, if possible. If this fails, the
+     * access is requested again on use, so that the exception occurs there.
+     * @param  object accessible object
+     * @return the accessible object itself
+     */
+    private static <T extends AccessibleObject> T access(T object) {
+
+        try {object.setAccessible(true);
+        } catch (RuntimeException exception) {
+            return object;
+        }
+        return object;
+    }
+
     /**
      * Determines the source class for an object.
      * @param  object object
@@ -162,28 +219,35 @@ public class Accession {
      */
     public static Field getField(Object object, String name)
             throws NoSuchFieldException {
+        return Accession.duplicate(Accession.lookupField(object, name));
+    }
 
-        Class<?> source;
-        Field    field;
+    /**
+     * Returns the cached field for internal use, the field must not be passed
+     * to callers, see {@link #getField(Object, String)}.
+     * @param  object class or object to be analyzed
+     * @param  name   name of the field
+     * @return the determined field
+     * @throws NoSuchFieldException 
+     *     If this field cannot be determined.
+     */
+    private static Field lookupField(Object object, String name)
+            throws NoSuchFieldException {
+
+        Field field;
         
         Objects.requireNonNull(object);
         
         name = Accession.trim(name);
         if (name.isEmpty())
             throw new NoSuchFieldException();
-         
-        for (source = Accession.getSourceClass(object);
-                source != null;
-                source = source.getSuperclass()) {
-            try {field = source.getDeclaredField(name);
-            } catch (NoSuchFieldException exception) {
-                continue;
-            }
+
+        field = Accession.METADATA.get(Accession.getSourceClass(object)).names.get(name);
+        if (field == null)
+            throw new NoSuchFieldException();
+        if (!field.isAccessible())
             field.setAccessible(true);
-            return field;
-        }
-        
-        throw new NoSuchFieldException();
+        return field;
     }
     
     /**
@@ -196,22 +260,41 @@ public class Accession {
      */
     public static Field[] getFields(Object object) {
 
-        Class<?>    source;
-        List<Field> fields;
-        
         if (object == null)
             return null;        
 
-        fields = new ArrayList<>();
-        for (source = Accession.getSourceClass(object);
-                source != null;
-                source = source.getSuperclass())
-            for (Field field : source.getDeclaredFields()) {
-                field.setAccessible(true);
-                fields.add(field);
-            }
+        Field[] fields = Accession.METADATA.get(Accession.getSourceClass(object)).fields.clone();
+        for (int loop = 0; loop < fields.length; loop++)
+            fields[loop] = Accession.duplicate(fields[loop]);
+        return fields;
+    }
+
+    /**
+     * Creates an own copy of a cached field for callers, so that changes of
+     * the caller (e.g. setAccessible) do not affect the cache.
+     * @param  field cached field
+     * @return the copy of the field
+     */
+    private static Field duplicate(Field field) {
+
+        try {return Accession.access(field.getDeclaringClass().getDeclaredField(field.getName()));
+        } catch (NoSuchFieldException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Creates an own copy of a cached method for callers, so that changes of
+     * the caller (e.g. setAccessible) do not affect the cache.
+     * @param  method cached method
+     * @return the copy of the method
+     */
+    private static Method duplicate(Method method) {
 
-        return fields.toArray(new Field[0]);
+        try {return Accession.access(method.getDeclaringClass().getDeclaredMethod(method.getName(), method.getParameterTypes()));
+        } catch (NoSuchMethodException exception) {
+            throw new IllegalStateException(exception);
+        }
     }
     
     /**
@@ -240,9 +323,25 @@ public class Accession {
      */
     public static Method getMethod(Object object, String name, Class<?>... types)
             throws NoSuchMethodException {
+        return Accession.duplicate(Accession.lookupMethod(object, name, types));
+    }
+
+    /**
+     * Returns the cached method for internal use, the method must not be
+     * passed to callers, see {@link #getMethod(Object, String, Class...)}.
+     * @param  object class or object to be analyzed
+     * @param  name   name of the method
+     * @param  types  data types as an array
+     * @return the determined method
+     * @throws NoSuchMethodException
+     *     If this method cannot be determined.
+     */
+    private static Method lookupMethod(Object object, String name, Class<?>... types)
+            throws NoSuchMethodException {
 
         Class<?> source;
-        Method   method;
+        Metadata metadata;
+        Object   method;
         
         Objects.requireNonNull(object);
 
@@ -250,18 +349,26 @@ public class Accession {
         if (name.isEmpty())
             throw new NoSuchMethodException();
 
-        for (source = Accession.getSourceClass(object);
-                source != null;
-                source = source.getSuperclass()) {
-            try {method = source.getDeclaredMethod(name, types);
-            } catch (NoSuchMethodException exception) {
-                continue;
+        source = Accession.getSourceClass(object);
+        metadata = Accession.METADATA.get(source);
+        MethodKey key = new MethodKey(name, types);
+        method = metadata.methods.get(key);
+        if (method == null) {
+            method = Metadata.NONE;
+            for (; source != null; source = source.getSuperclass()) {
+                try {method = Accession.access(source.getDeclaredMethod(name, types));
+                } catch (NoSuchMethodException exception) {
+                    continue;
+                }
+                break;
             }
-            method.setAccessible(true);
-            return method; 
+            metadata.methods.putIfAbsent(key, method);
         }
-        
-        throw new NoSuchMethodException();
+        if (method == Metadata.NONE)
+            throw new NoSuchMethodException();
+        if (!((Method)method).isAccessible())
+            ((Method)method).setAccessible(true);
+        return (Method)method;
     }
 
     /**
@@ -274,24 +381,66 @@ public class Accession {
      */
     public static Method[] getMethods(Object object) {
 
-        Class<?>     source;
-        List<Method> methods;
-        
         if (object == null)
             return null;
 
-        methods = new ArrayList<>();
-        for (source = Accession.getSourceClass(object);
-                source != null;
-                source = source.getSuperclass())
-            for (Method method : source.getDeclaredMethods()) {
-                method.setAccessible(true);
-                methods.add(method);
-            }
-
-        return methods.toArray(new Method[0]) ;
+        Method[] methods = Accession.METADATA.get(Accession.getSourceClass(object)).getMethods().clone();
+        for (int loop = 0; loop < methods.length; loop++)
+            methods[loop] = Accession.duplicate(methods[loop]);
+        return methods;
     }
     
+    /**
+     * Returns the cached accessor of a field.
+     * @param  field field
+     * @return the accessor of the field
+     */
+    private static FieldAccessor getAccessor(Field field) {
+        return Accession.METADATA.get(field.getDeclaringClass()).fieldAccessors
+                .computeIfAbsent(field, FieldAccessor::new);
+    }
+
+    /**
+     * Returns the cached accessor of a method.
+     * @param  method method
+     * @return the accessor of the method
+     */
+    private static MethodAccessor getAccessor(Method method) {
+        return Accession.METADATA.get(method.getDeclaringClass()).methodAccessors
+                .computeIfAbsent(method, MethodAccessor::new);
+    }
+
+    /**
+     * Gets the accessor of a field, even those that are not public or in a
+     * superclass, or throws {@link NoSuchFieldException} if the field does
+     * not exist. The accessor is cached and is intended for repeated access.
+     * @param  object class or object to be analyzed
+     * @param  name   name of the field
+     * @return the accessor of the field
+     * @throws NoSuchFieldException 
+     *     If this field cannot be determined.
+     */
+    public static FieldAccessor getFieldAccessor(Object object, String name)
+            throws NoSuchFieldException {
+        return Accession.getAccessor(Accession.lookupField(object, name));
+    }
+
+    /**
+     * Gets the accessor of a method, even those that are not public or in a
+     * superclass, or throws {@link NoSuchMethodException} if the method does
+     * not exist. The accessor is cached and is intended for repeated access.
+     * @param  object class or object to be analyzed
+     * @param  name   name of the method
+     * @param  types  data types as an array
+     * @return the accessor of the method
+     * @throws NoSuchMethodException
+     *     If this method cannot be determined.
+     */
+    public static MethodAccessor getMethodAccessor(Object object, String name, Class<?>... types)
+            throws NoSuchMethodException {
+        return Accession.getAccessor(Accession.lookupMethod(object, name, types));
+    }
+
     /**
      * Determines the inherited class hierarchy as array from an object or
      * class. If this cannot be determined, the array is empty.
@@ -418,7 +567,7 @@ public class Accession {
 
         Objects.requireNonNull(object, "Invalid object [null]");
         
-        return Accession.getField(object, field).get(object);
+        return Accession.getAccessor(Accession.lookupField(object, field)).get(object);
     }
     
     /**
@@ -442,7 +591,7 @@ public class Accession {
         if (field.isEmpty())
             throw new NoSuchFieldException();
         
-        Accession.set(object, Accession.getField(object, field), value);
+        Accession.set(object, Accession.lookupField(object, field), value);
     }
     
     /**
@@ -482,7 +631,7 @@ public class Accession {
                 value = Short.valueOf((short)0);
         }
         
-        field.set(object, value);
+        Accession.getAccessor(field).set(object, value);
     }
     
     /**
@@ -535,7 +684,7 @@ public class Accession {
 
         value = null;
         
-        try {value = Accession.getField(source, field).get(source);
+        try {value = Accession.lookupField(source, field).get(source);
         } catch (NoSuchFieldException exception) {
             throw new NoSuchFieldException("Source field not found");
         }
@@ -553,6 +702,8 @@ public class Accession {
     /**
      * Synchronizes two objects at field-level by copying the values from
      * source to target, even those that are not public or in a superclass.
+     * Static fields are only synchronized if source and target are classes,
+     * between objects they are ignored. Final fields are not synchronized.
      * @param  source source object 
      * @param  target target object
      * @throws NoSuchFieldException
@@ -572,6 +723,8 @@ public class Accession {
     /**
      * Synchronizes two objects at field-level by copying the values from
      * source to target, even those that are not public or in a superclass.
+     * Static fields are only synchronized if source and target are classes,
+     * between objects they are ignored. Final fields are not synchronized.
      * @param  source source object 
      * @param  target target object
      * @param  filter  list of includes/excludes fields
@@ -592,6 +745,8 @@ public class Accession {
     /**
      * Synchronizes two objects at field-level by copying the values from
      * source to target, even those that are not public or in a superclass.
+     * Static fields are only synchronized if source and target are classes,
+     * between objects they are ignored. Final fields are not synchronized.
      * @param  source source object 
      * @param  target target object
      * @param  filter  list of includes/excludes fields
@@ -604,46 +759,250 @@ public class Accession {
     public static void synchronize(Object source, Object target, Filter filter, Map<String, String> mapping)
             throws NoSuchFieldException, IllegalAccessException {
 
-        FieldMatcher matcher;
-        Object       value;
-        String       alias;
-        
         Objects.requireNonNull(source, "Invalid source [null]");
         Objects.requireNonNull(target, "Invalid target [null]");
 
-        matcher = new FieldMatcher(source, filter);
+        //static fields are only synchronized between classes
+        boolean statics = source instanceof Class
+                && target instanceof Class;
+        Accession.getSynchronizer(Accession.getSourceClass(source), Accession.getSourceClass(target), filter, mapping, false, statics)
+                .synchronize(source, target, null);
+    }
 
-        for (Field field : Accession.getFields(source)) {
-            
-            if (!matcher.validate(field))
-                continue;
+    /**
+     * Creates a precompiled synchronizer, which copies the values of fields
+     * from objects of the source class to objects of the target class, like
+     * {@link #synchronize(Object, Object, Filter, Map)}. Filter and mapping
+     * are resolved once, so the synchronizer is intended for repeated use.
+     * Static fields are not synchronized.
+     * @param  source  source class
+     * @param  target  target class
+     * @param  filter  list of includes/excludes fields
+     * @param  mapping mapping table source -&lt; target
+     * @return the created synchronizer
+     * @throws NoSuchFieldException
+     *     If a target field does not exist.
+     */
+    public static Synchronizer createSynchronizer(Class<?> source, Class<?> target, Filter filter, Map<String, String> mapping)
+            throws NoSuchFieldException {
+        return Accession.createSynchronizer(source, target, filter, mapping, false);
+    }
 
-            if (field.isSynthetic())
-                continue;
-            
-            alias = field.getName();
-            if (mapping != null)
-                alias = mapping.get(field.getName());
-            if (alias == null)
-                alias = field.getName();
-            
-            value = field.get(source);
-            
-            try {field = Accession.getField(target, alias);
-            } catch (NoSuchFieldException exception) {
-                if (filter instanceof AutoExclude
-                        || filter instanceof AutoExclude)
-                    continue;
-                throw new NoSuchFieldException("Target field (" + alias + ") not found");
+    /**
+     * Creates a precompiled synchronizer, which copies the values of fields
+     * from objects of the source class to objects of the target class, like
+     * {@link #synchronize(Object, Object, Filter, Map)}. Filter and mapping
+     * are resolved once, so the synchronizer is intended for repeated use.
+     * Static fields are not synchronized.
+     * Optionally, the values are copied deeply: arrays, collections, maps and
+     * objects with a constructor without arguments are copied recursively,
+     * other values are shared. References within the copied values are
+     * retained, including cyclic references.
+     * @param  source  source class
+     * @param  target  target class
+     * @param  filter  list of includes/excludes fields
+     * @param  mapping mapping table source -&lt; target
+     * @param  deep    {@code true} to copy the values deeply
+     * @return the created synchronizer
+     * @throws NoSuchFieldException
+     *     If a target field does not exist.
+     */
+    public static Synchronizer createSynchronizer(Class<?> source, Class<?> target, Filter filter, Map<String, String> mapping, boolean deep)
+            throws NoSuchFieldException {
+
+        Objects.requireNonNull(source, "Invalid source [null]");
+        Objects.requireNonNull(target, "Invalid target [null]");
+
+        return new Synchronizer(source, target, filter, mapping, deep, false);
+    }
+
+    /**
+     * Returns a cached synchronizer.
+     * @param  source  source class
+     * @param  target  target class
+     * @param  filter  list of includes/excludes fields
+     * @param  mapping mapping table source -&lt; target
+     * @param  deep    {@code true} to copy the values deeply
+     * @param  statics {@code true} to include static fields
+     * @return the cached synchronizer
+     * @throws NoSuchFieldException
+     *     If a target field does not exist.
+     */
+    private static Synchronizer getSynchronizer(Class<?> source, Class<?> target, Filter filter, Map<String, String> mapping, boolean deep, boolean statics)
+            throws NoSuchFieldException {
+
+        List<Object> key = new ArrayList<>();
+        key.add(target);
+        key.add(Boolean.valueOf(deep));
+        key.add(Boolean.valueOf(statics));
+        key.add(mapping != null ? new HashMap<>(mapping) : null);
+        if (filter != null) {
+            key.add(filter.getClass());
+            key.addAll(Arrays.asList(filter.list()));
+        }
+        Map<List<Object>, Synchronizer> synchronizers = Accession.METADATA.get(source).synchronizers;
+        Synchronizer synchronizer = synchronizers.get(key);
+        if (synchronizer != null)
+            return synchronizer;
+        if (synchronizers.size() >= Metadata.PLANS_LIMIT)
+            synchronizers.clear();
+        synchronizer = new Synchronizer(source, target, filter, mapping, deep, statics);
+        synchronizers.put(key, synchronizer);
+        return synchronizer;
+    }
+
+    /**
+     * Creates a deep copy of an object. Arrays, collections, maps and objects
+     * with a constructor without arguments are copied recursively, other
+     * values are shared. References within the object, including cyclic
+     * references, are retained. Final and static fields are not copied.
+     * @param  object object
+     * @return the deep copy of the object
+     * @throws IllegalAccessException
+     *     If access to a field fails.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copy(T object)
+            throws IllegalAccessException {
+        return (T)Accession.copy(object, new IdentityHashMap<>());
+    }
+
+    /**
+     * Creates a deep copy of a value.
+     * @param  value  value
+     * @param  copies already copied values (original -&lt; copy)
+     * @return the deep copy of the value
+     * @throws IllegalAccessException
+     *     If access to a field fails.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object copy(Object value, Map<Object, Object> copies)
+            throws IllegalAccessException {
+
+        if (value == null)
+            return null;
+        Class<?> type = value.getClass();
+        if (type.isEnum()
+                || value instanceof Class
+                || value instanceof String
+                || value instanceof Number && type.getName().startsWith("java.lang.")
+                || value instanceof Boolean
+                || value instanceof Character)
+            return value;
+
+        Object copy = copies.get(value);
+        if (copy != null)
+            return copy;
+
+        if (type.isArray()) {
+            int length = java.lang.reflect.Array.getLength(value);
+            if (type.getComponentType().isPrimitive()) {
+                copy = java.lang.reflect.Array.newInstance(type.getComponentType(), length);
+                System.arraycopy(value, 0, copy, 0, length);
+                copies.put(value, copy);
+                return copy;
             }
-            
-            if (Modifier.isFinal(field.getModifiers()))
-                continue;
-            
-            Accession.set(target, field, value);
+            Object[] array = (Object[])java.lang.reflect.Array.newInstance(type.getComponentType(), length);
+            copies.put(value, array);
+            for (int loop = 0; loop < length; loop++)
+                array[loop] = Accession.copy(((Object[])value)[loop], copies);
+            return array;
+        }
+
+        if (value instanceof Date) {
+            copy = ((Date)value).clone();
+            copies.put(value, copy);
+            return copy;
+        }
+
+        if (value instanceof Map) {
+            Map<Object, Object> map = Accession.createMap((Map<Object, Object>)value);
+            copies.put(value, map);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>)value).entrySet())
+                map.put(entry.getKey(), Accession.copy(entry.getValue(), copies));
+            return map;
+        }
+        if (value instanceof Collection) {
+            Collection<Object> collection = Accession.createCollection((Collection<Object>)value);
+            copies.put(value, collection);
+            for (Object entry : (Collection<?>)value)
+                collection.add(Accession.copy(entry, copies));
+            return collection;
+        }
+
+        if (type.getName().startsWith("java.")
+                || type.getName().startsWith("javax."))
+            return value;
+        Object instance = Accession.METADATA.get(type).newInstance();
+        if (instance == null)
+            return value;
+        copies.put(value, instance);
+        try {Accession.getSynchronizer(type, type, null, null, true, false).synchronize(value, instance, copies);
+        } catch (NoSuchFieldException exception) {
+            throw new IllegalStateException(exception);
         }
+        return instance;
     }    
     
+    /**
+     * Creates an empty map of the same kind for the copy of a map.
+     * Comparators of sorted maps and the key type of enum maps are retained.
+     * @param  map map to be copied
+     * @return the created empty map
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<Object, Object> createMap(Map<Object, Object> map) {
+
+        if (map instanceof EnumMap) {
+            Map<Object, Object> copy = new EnumMap((EnumMap)map);
+            copy.clear();
+            return copy;
+        }
+        Object instance = Accession.METADATA.get(map.getClass()).newInstance();
+        if (map instanceof SortedMap) {
+            Comparator<Object> comparator = ((SortedMap<Object, Object>)map).comparator();
+            if (instance instanceof SortedMap
+                    && Objects.equals(((SortedMap<?, ?>)instance).comparator(), comparator))
+                return (Map<Object, Object>)instance;
+            if (map instanceof ConcurrentSkipListMap)
+                return new ConcurrentSkipListMap<>(comparator);
+            return new TreeMap<>(comparator);
+        }
+        return instance instanceof Map ? (Map<Object, Object>)instance : new LinkedHashMap<>();
+    }
+
+    /**
+     * Creates an empty collection of the same kind for the copy of a
+     * collection. Comparators of sorted sets and the element type of enum
+     * sets are retained.
+     * @param  collection collection to be copied
+     * @return the created empty collection
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Collection<Object> createCollection(Collection<Object> collection) {
+
+        if (collection instanceof EnumSet) {
+            Collection<Object> copy = ((EnumSet)collection).clone();
+            copy.clear();
+            return copy;
+        }
+        Object instance = Accession.METADATA.get(collection.getClass()).newInstance();
+        if (collection instanceof SortedSet) {
+            Comparator<Object> comparator = ((SortedSet<Object>)collection).comparator();
+            if (instance instanceof SortedSet
+                    && Objects.equals(((SortedSet<?>)instance).comparator(), comparator))
+                return (Collection<Object>)instance;
+            if (collection instanceof ConcurrentSkipListSet)
+                return new ConcurrentSkipListSet<>(comparator);
+            return new TreeSet<>(comparator);
+        }
+        if (instance instanceof Collection)
+            return (Collection<Object>)instance;
+        if (collection instanceof Set)
+            return new LinkedHashSet<>();
+        return new ArrayList<>();
+    }
+
     /**
      * Executes a method from an object or class without further arguments,
      * even if the method is not public or in a superclass. Returns the return
@@ -715,7 +1074,7 @@ public class Accession {
         if (method.isEmpty())
             throw new NoSuchMethodException();
 
-        return Accession.getMethod(object, method, types).invoke(object, arguments);
+        return Accession.getAccessor(Accession.lookupMethod(object, method, types)).invoke(object, arguments);
     }
     
     /**
@@ -743,48 +1102,19 @@ public class Accession {
      */
     public static int hashCode(Object object, Filter filter) {
         
-        Object       value;
-        Class<?>     type;
-        FieldMatcher matcher;
-        
-        int          hash;
+        Class<?> source;
+        int      hash;
         
         if (object == null)
             return 0;
 
-        matcher = new FieldMatcher(object, filter);
-        
-        hash = object.getClass().getSuperclass().hashCode();
-        for (Field field : Accession.getFields(object)) {
-            
-            if (!matcher.validate(field))
-                continue;
-
-            type = field.getType();
-            if (!type.equals(String.class)
-                    && !type.equals(Date.class)
-                    && !type.equals(Boolean.class)
-                    && !type.equals(Integer.class)
-                    && !type.equals(Long.class)
-                    && !type.equals(Double.class)
-                    && !type.equals(Short.class)
-                    && !type.isPrimitive())
-                continue;
-
-            if (object instanceof Serializable
-                    && ("serialVersionUID").equals(field.getName()))
-                continue;
-            
-            try {value = field.get(object);
-            } catch (Exception exception) {
-                value = null;
-            }
-            
-            hash = 31 *hash +(value == null ? 0 : value.hashCode());
-        }
+        source = object.getClass().getSuperclass();
+        hash = source != null ? source.hashCode() : 0;
+        for (PlanField field : Accession.getPlan(object.getClass(), filter).simple)
+            hash = 31 *hash +field.hash(object);
 
         return hash;
-    }    
+    }
     
     /**
      * Indicates whether two are equal objects.
@@ -819,11 +1149,6 @@ public class Accession {
      */
     public static boolean equals(Object object1, Object object2, Filter filter) {
         
-        Object       value1;
-        Object       value2;
-        Class<?>     type;
-        FieldMatcher matcher;
-
         if (object1 == null
                 && object2 == null)
             return true;
@@ -833,58 +1158,143 @@ public class Accession {
         if (!object1.getClass().equals(object2.getClass()))
             return false;
 
-        matcher = new FieldMatcher(object1, filter);
+        for (PlanField field : Accession.getPlan(object1.getClass(), filter).simple)
+            if (!field.equals(object1, object2))
+                return false;
         
-        for (Field field1 : Accession.getFields(object1)) {
+        return true;
+    }
 
-            if (!matcher.validate(field1))
-                continue;
+    /**
+     * Indicates whether two objects are structurally equal.
+     * In difference to {@link #equals(Object, Object)}, all non-static
+     * fields are compared recursively: arrays and lists by elements, maps by
+     * the values of the keys, other collections and classes of the Java
+     * runtime with {@code equals} and all other objects by their fields.
+     * Cyclic references are detected, pairs of objects that are already
+     * compared are considered equal.
+     * @param  object1 object
+     * @param  object2 object for comparison
+     * @return {@code true} if both objects are structurally equal
+     */
+    public static boolean deepEquals(Object object1, Object object2) {
+        return Accession.deepEquals(object1, object2, null);
+    }
 
-            Field field2;
-            try {field2 = Accession.getField(object2, field1.getName());
-            } catch (NoSuchFieldException exception1) {
-                return false;
-            }
+    /**
+     * Indicates whether two objects are structurally equal.
+     * In difference to {@link #equals(Object, Object, Filter)}, all
+     * non-static fields are compared recursively: arrays and lists by
+     * elements, maps by the values of the keys, other collections and classes
+     * of the Java runtime with {@code equals} and all other objects by their
+     * fields. The filter is used for all compared objects. Cyclic references
+     * are detected, pairs of objects that are already compared are
+     * considered equal.
+     * @param  object1 object
+     * @param  object2 object for comparison
+     * @param  filter  list of includes/excludes fields
+     * @return {@code true} if both objects are structurally equal
+     */
+    public static boolean deepEquals(Object object1, Object object2, Filter filter) {
+
+        Deque<Object[]> stack   = new ArrayDeque<>();
+        Set<Pair>       visited = new HashSet<>();
+        
+        stack.push(new Object[] {object1, object2});
+        while (!stack.isEmpty()) {
             
-            type = field1.getType();
-            if (!type.equals(field2.getType()))
-                return false;
-            if (!type.equals(String.class)
-                    && !type.equals(Date.class)
-                    && !type.equals(Boolean.class)
-                    && !type.equals(Integer.class)
-                    && !type.equals(Long.class)
-                    && !type.equals(Double.class)
-                    && !type.equals(Short.class)
-                    && !type.isPrimitive())
-                continue;
+            Object[] pair = stack.pop();
+            Object value1 = pair[0];
+            Object value2 = pair[1];
             
-            if ((object1 instanceof Serializable && ("serialVersionUID").equals(field1.getName()))
-                    || (object2 instanceof Serializable && ("serialVersionUID").equals(field2.getName())))
-                continue;
-
-            try {value1 = field1.get(object1);
-            } catch (Exception exception) {
-                value1 = null;
-            }
-            try {value2 = field2.get(object2);
-            } catch (Exception exception) {
-                value2 = null;
-            }
-
-            if (value1 == null
-                    && value2 == null)
+            if (value1 == value2)
                 continue;
             if (value1 == null
                     || value2 == null)
                 return false;
-            if (!value1.equals(value2))
+            Class<?> type = value1.getClass();
+            if (!type.equals(value2.getClass()))
                 return false;
+            if (!visited.add(new Pair(value1, value2)))
+                continue;
+            
+            if (type.isArray()) {
+                if (type.getComponentType().isPrimitive()) {
+                    if (!Accession.equalsArray(value1, value2))
+                        return false;
+                    continue;
+                }
+                Object[] array1 = (Object[])value1;
+                Object[] array2 = (Object[])value2;
+                if (array1.length != array2.length)
+                    return false;
+                for (int loop = array1.length -1; loop >= 0; loop--)
+                    stack.push(new Object[] {array1[loop], array2[loop]});
+            } else if (value1 instanceof Map) {
+                Map<?, ?> map1 = (Map<?, ?>)value1;
+                Map<?, ?> map2 = (Map<?, ?>)value2;
+                if (map1.size() != map2.size())
+                    return false;
+                for (Map.Entry<?, ?> entry : map1.entrySet()) {
+                    if (!map2.containsKey(entry.getKey()))
+                        return false;
+                    stack.push(new Object[] {entry.getValue(), map2.get(entry.getKey())});
+                }
+            } else if (value1 instanceof List) {
+                List<?> list1 = (List<?>)value1;
+                List<?> list2 = (List<?>)value2;
+                if (list1.size() != list2.size())
+                    return false;
+                Iterator<?> iterator1 = list1.iterator();
+                Iterator<?> iterator2 = list2.iterator();
+                while (iterator1.hasNext()
+                        && iterator2.hasNext())
+                    stack.push(new Object[] {iterator1.next(), iterator2.next()});
+            } else if (value1 instanceof Collection
+                    || type.isEnum()
+                    || type.getName().startsWith("java.")
+                    || type.getName().startsWith("javax.")) {
+                if (!value1.equals(value2))
+                    return false;
+            } else {
+                for (PlanField field : Accession.getPlan(type, filter).deep) {
+                    if (field.kind != PlanField.KIND_OBJECT) {
+                        if (!field.equals(value1, value2))
+                            return false;
+                    } else stack.push(new Object[] {field.value(value1), field.value(value2)});
+                }
+            }
         }
         
         return true;
     }
 
+    /**
+     * Compares two arrays of the same primitive data type.
+     * @param  array1 array
+     * @param  array2 array for comparison
+     * @return {@code true} if both arrays are equal
+     */
+    private static boolean equalsArray(Object array1, Object array2) {
+
+        Class<?> type = array1.getClass().getComponentType();
+        if (type == boolean.class)
+            return Arrays.equals((boolean[])array1, (boolean[])array2);
+        if (type == byte.class)
+            return Arrays.equals((byte[])array1, (byte[])array2);
+        if (type == char.class)
+            return Arrays.equals((char[])array1, (char[])array2);
+        if (type == short.class)
+            return Arrays.equals((short[])array1, (short[])array2);
+        if (type == int.class)
+            return Arrays.equals((int[])array1, (int[])array2);
+        if (type == long.class)
+            return Arrays.equals((long[])array1, (long[])array2);
+        if (type == float.class)
+            return Arrays.equals((float[])array1, (float[])array2);
+        return Arrays.equals((double[])array1, (double[])array2);
+    }
+
     /**
      * Creates a representative string for an object.
      * The method is limited to primitive fields (String, Date, Booolean,
@@ -910,52 +1320,59 @@ public class Accession {
      */
     public static String toString(Object object, Filter filter) {
         
-        Object       value;
-        Class<?>     type;
-        FieldMatcher matcher;
-        StringBuffer buffer;
+        StringBuilder builder;
         
         if (object == null)
             return String.valueOf(object);
         
-        matcher = new FieldMatcher(object, filter);
-
-        buffer = new StringBuffer();
-        for (Field field : Accession.getFields(object)) {            
+        builder = new StringBuilder(object.getClass().getSimpleName()).append(" [");
+        int length = builder.length();
+        for (PlanField field : Accession.getPlan(object.getClass(), filter).string)
+            field.append(builder, object, builder.length() > length);
         
-            if (!matcher.validate(field))
-                continue;
+        return builder.append("]").toString();
+    }
 
-            type = field.getType();
-            if (!type.equals(String.class)
-                    && !type.equals(Date.class)
-                    && !type.equals(Boolean.class)
-                    && !type.equals(Integer.class)
-                    && !type.equals(Long.class)
-                    && !type.equals(Double.class)
-                    && !type.equals(Short.class)
-                    && !type.isPrimitive())
-                continue;
-            
-            if ((field.getModifiers() & (Modifier.FINAL | Modifier.STATIC)) == (Modifier.FINAL | Modifier.STATIC))
-                continue;
-            
-            if (object instanceof Serializable
-                    && ("serialVersionUID").equals(field.getName()))
-                continue;
+    /**
+     * Checks whether a data type is supported by equals, hashCode and
+     * toString (String, Date, Boolean, Integer, Long, Double, Short and
+     * primitive data types).
+     * @param  type data type
+     * @return {@code true} if the data type is supported
+     */
+    private static boolean isSimpleType(Class<?> type) {
+        return type.equals(String.class)
+                || type.equals(Date.class)
+                || type.equals(Boolean.class)
+                || type.equals(Integer.class)
+                || type.equals(Long.class)
+                || type.equals(Double.class)
+                || type.equals(Short.class)
+                || type.isPrimitive();
+    }
 
-            try {value = Accession.get(object, field.getName());
-            } catch (Exception exception) {
-                continue;
-            }
-            
-            buffer.append(", ").append(field.getName()).append("=").append(value);
+    /**
+     * Returns the cached plan of the fields of a class for a filter.
+     * @param  type   class
+     * @param  filter filter
+     * @return the plan of the fields
+     */
+    private static Plan getPlan(Class<?> type, Filter filter) {
+
+        List<Object> key = new ArrayList<>();
+        if (filter != null) {
+            key.add(filter.getClass());
+            key.addAll(Arrays.asList(filter.list()));
         }
-        
-        if (buffer.length() > 0)
-            buffer = new StringBuffer(buffer.toString().substring(2));
-        
-        return object.getClass().getSimpleName() + " [" + buffer + "]";
+        Map<List<Object>, Plan> plans = Accession.METADATA.get(type).plans;
+        Plan plan = plans.get(key);
+        if (plan != null)
+            return plan;
+        if (plans.size() >= Metadata.PLANS_LIMIT)
+            plans.clear();
+        plan = new Plan(type, filter);
+        plans.put(key, plan);
+        return plan;
     }
 
     /** Internal class to implement filter for excludes and includes. */
@@ -1089,34 +1506,1213 @@ public class Accession {
         }
     }
     
-    /** Internal matcher for fields, based on {@link Filter} */
-    private static class FieldMatcher {
-        
-        /** list of fields */
-        private List<Field> fields;
-        
-        /** type of filter */
-        private Filter filter;
-        
-        /** 
-         * Constructor, creates a new FieldMatcher object.
-         * @param object object
-         * @param filter filter
-         */
-        private FieldMatcher(Object object, Filter filter) {
-            
-            this.filter = filter;
-            this.fields = new ArrayList<>();
-            if (filter == null)
-                return;
-            for (Object entry : filter.list()) {
-                if (entry instanceof String)
-                    try {entry = Accession.getField(object, (String)entry);
-                    } catch (NoSuchFieldException exception) {
+    /**
+     * Internal metadata of a class with the fields and methods of the class
+     * hierarchy. The metadata are based on the metadata of the superclass.
+     */
+    private static class Metadata {
+
+        /** sentinel for methods that do not exist */
+        private static final Object NONE = new Object();
+
+        /** maximum number of plans per class */
+        private static final int PLANS_LIMIT = 64;
+
+        /** type of the class */
+        private final Class<?> type;
+
+        /** fields of the class hierarchy, starting with the class */
+        private final Field[] fields;
+
+        /** fields by name, fields of the class hide those of superclasses */
+        private final Map<String, Field> names;
+
+        /** methods of the class hierarchy (lazy) */
+        private volatile Method[] declarations;
+
+        /** determined methods by name and data types */
+        private final Map<MethodKey, Object> methods;
+
+        /** accessors of the fields declared by the class */
+        private final Map<Field, FieldAccessor> fieldAccessors;
+
+        /** accessors of the methods declared by the class */
+        private final Map<Method, MethodAccessor> methodAccessors;
+
+        /** plans of the fields per filter */
+        private final Map<List<Object>, Plan> plans;
+
+        /** synchronizers per target, filter and mapping */
+        private final Map<List<Object>, Synchronizer> synchronizers;
+
+        /** constructor without arguments (lazy), otherwise {@link #NONE} */
+        private volatile Object constructor;
+
+        /**
+         * Constructor, creates a new Metadata object.
+         * @param type type of the class
+         */
+        private Metadata(Class<?> type) {
+
+            Metadata parent = type.getSuperclass() != null ? Accession.METADATA.get(type.getSuperclass()) : null;
+
+            List<Field> fields = new ArrayList<>();
+            for (Field field : type.getDeclaredFields())
+                fields.add(Accession.access(field));
+            this.names = new HashMap<>();
+            for (Field field : fields)
+                this.names.put(field.getName(), field);
+            if (parent != null) {
+                fields.addAll(Arrays.asList(parent.fields));
+                for (Map.Entry<String, Field> entry : parent.names.entrySet())
+                    this.names.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+
+            this.type    = type;
+            this.fields  = fields.toArray(new Field[0]);
+            this.methods = new ConcurrentHashMap<>();
+
+            this.fieldAccessors  = new ConcurrentHashMap<>();
+            this.methodAccessors = new ConcurrentHashMap<>();
+            this.plans           = new ConcurrentHashMap<>();
+            this.synchronizers   = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * Creates a new instance with the constructor without arguments.
+         * @return the created instance, otherwise {@code null}
+         */
+        private Object newInstance() {
+
+            if (this.constructor == null) {
+                Object constructor;
+                try {constructor = this.type.isInterface()
+                        || Modifier.isAbstract(this.type.getModifiers()) ? Metadata.NONE
+                                : Accession.access(this.type.getDeclaredConstructor());
+                } catch (NoSuchMethodException | RuntimeException exception) {
+                    constructor = Metadata.NONE;
+                }
+                this.constructor = constructor;
+            }
+            if (this.constructor == Metadata.NONE)
+                return null;
+            try {return ((Constructor<?>)this.constructor).newInstance();
+            } catch (ReflectiveOperationException | RuntimeException exception) {
+                return null;
+            }
+        }
+
+        /**
+         * Returns the methods of the class hierarchy, starting with the class.
+         * @return the methods of the class hierarchy
+         */
+        private Method[] getMethods() {
+
+            if (this.declarations != null)
+                return this.declarations;
+            List<Method> methods = new ArrayList<>();
+            for (Method method : this.type.getDeclaredMethods())
+                methods.add(Accession.access(method));
+            if (this.type.getSuperclass() != null)
+                methods.addAll(Arrays.asList(Accession.METADATA.get(this.type.getSuperclass()).getMethods()));
+            this.declarations = methods.toArray(new Method[0]);
+            return this.declarations;
+        }
+    }
+
+    /**
+     * Rethrows the throwable of a method handle as unchecked exception.
+     * @param  throwable throwable
+     * @return the unchecked exception
+     */
+    private static RuntimeException rethrow(Throwable throwable) {
+
+        if (throwable instanceof Error)
+            throw (Error)throwable;
+        if (throwable instanceof RuntimeException)
+            return (RuntimeException)throwable;
+        return new IllegalStateException(throwable);
+    }
+
+    /**
+     * Accessor of a field based on method handles.
+     * The access via method handles is used for matching objects and values,
+     * other cases are delegated to the field, so that the exceptions are the
+     * same as with {@link Field}. The primitive getters and setters without
+     * boxing are used if the data type of the field is the same.
+     */
+    public static class FieldAccessor {
+
+        /** field */
+        private final Field field;
+
+        /** data type of the field */
+        private final Class<?> type;
+
+        /** wrapper of the data type */
+        private final Class<?> wrapper;
+
+        /** declaring class of the field */
+        private final Class<?> source;
+
+        /** indicator for: field is static */
+        private final boolean isStatic;
+
+        /** getter (Object)type, otherwise {@code null} */
+        private final MethodHandle getter;
+
+        /** getter (Object)Object, otherwise {@code null} */
+        private final MethodHandle reader;
+
+        /** setter (Object, type)void, otherwise {@code null} */
+        private final MethodHandle setter;
+
+        /** setter (Object, Object)void, otherwise {@code null} */
+        private final MethodHandle writer;
+
+        /**
+         * Constructor, creates a new FieldAccessor object.
+         * @param field field
+         */
+        private FieldAccessor(Field field) {
+
+            this.field    = field;
+            this.type     = field.getType();
+            this.wrapper  = MethodType.methodType(this.type).wrap().returnType();
+            this.source   = field.getDeclaringClass();
+            this.isStatic = Modifier.isStatic(field.getModifiers());
+
+            MethodHandle getter = null;
+            try {getter = Accession.LOOKUP.unreflectGetter(field);
+                getter = this.isStatic ? MethodHandles.dropArguments(getter, 0, Object.class)
+                        : getter.asType(MethodType.methodType(this.type, Object.class));
+            } catch (IllegalAccessException exception) {
+                getter = null;
+            }
+            this.getter = getter;
+            this.reader = getter != null ? getter.asType(MethodType.methodType(Object.class, Object.class)) : null;
+
+            MethodHandle setter = null;
+            try {setter = Accession.LOOKUP.unreflectSetter(field);
+                setter = this.isStatic ? MethodHandles.dropArguments(setter, 0, Object.class)
+                        : setter.asType(MethodType.methodType(void.class, Object.class, this.type));
+            } catch (IllegalAccessException exception) {
+                setter = null;
+            }
+            this.setter = setter;
+            this.writer = setter != null ? setter.asType(MethodType.methodType(void.class, Object.class, Object.class)) : null;
+        }
+
+        /**
+         * Returns the field of the accessor as an own copy.
+         * @return the field
+         */
+        public Field getField() {
+            return Accession.duplicate(this.field);
+        }
+
+        /**
+         * Checks whether the object can be used with the method handles.
+         * @param  handle method handle
+         * @param  object object
+         * @return {@code true} if the object can be used
+         */
+        private boolean validate(MethodHandle handle, Object object) {
+            return handle != null
+                    && (this.isStatic || this.source.isInstance(object));
+        }
+
+        /**
+         * Checks whether the primitive access with the method handles can be
+         * used for a data type.
+         * @param  handle method handle
+         * @param  object object
+         * @param  type   data type
+         * @return {@code true} if the primitive access can be used
+         */
+        private boolean validate(MethodHandle handle, Object object, Class<?> type) {
+            return this.type == type
+                    && this.validate(handle, object);
+        }
+
+        /**
+         * Gets the value of the field from an object.
+         * Primitive data types are returned as a corresponding wrapper object.
+         * @param  object object, is ignored for static fields
+         * @return the value of the field
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public Object get(Object object)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.reader, object))
+                return this.field.get(object);
+            try {return (Object)this.reader.invokeExact(object);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Sets the value of the field from an object.
+         * A primitive data type are passed as corresponding wrapper object.
+         * @param  object object, is ignored for static fields
+         * @param  value  value
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public void set(Object object, Object value)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.writer, object)
+                    || (this.type.isPrimitive() ? value == null || value.getClass() != this.wrapper
+                            : value != null && !this.type.isInstance(value))) {
+                this.field.set(object, value);
+                return;
+            }
+            try {this.writer.invokeExact(object, value);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Gets the value of a boolean field from an object.
+         * @param  object object, is ignored for static fields
+         * @return the value of the field
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public boolean getBoolean(Object object)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.getter, object, boolean.class))
+                return this.field.getBoolean(object);
+            try {return (boolean)this.getter.invokeExact(object);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Gets the value of a byte field from an object.
+         * @param  object object, is ignored for static fields
+         * @return the value of the field
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public byte getByte(Object object)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.getter, object, byte.class))
+                return this.field.getByte(object);
+            try {return (byte)this.getter.invokeExact(object);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Gets the value of a char field from an object.
+         * @param  object object, is ignored for static fields
+         * @return the value of the field
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public char getChar(Object object)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.getter, object, char.class))
+                return this.field.getChar(object);
+            try {return (char)this.getter.invokeExact(object);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Gets the value of a short field from an object.
+         * @param  object object, is ignored for static fields
+         * @return the value of the field
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public short getShort(Object object)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.getter, object, short.class))
+                return this.field.getShort(object);
+            try {return (short)this.getter.invokeExact(object);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Gets the value of an int field from an object.
+         * @param  object object, is ignored for static fields
+         * @return the value of the field
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public int getInt(Object object)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.getter, object, int.class))
+                return this.field.getInt(object);
+            try {return (int)this.getter.invokeExact(object);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Gets the value of a long field from an object.
+         * @param  object object, is ignored for static fields
+         * @return the value of the field
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public long getLong(Object object)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.getter, object, long.class))
+                return this.field.getLong(object);
+            try {return (long)this.getter.invokeExact(object);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Gets the value of a float field from an object.
+         * @param  object object, is ignored for static fields
+         * @return the value of the field
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public float getFloat(Object object)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.getter, object, float.class))
+                return this.field.getFloat(object);
+            try {return (float)this.getter.invokeExact(object);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Gets the value of a double field from an object.
+         * @param  object object, is ignored for static fields
+         * @return the value of the field
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public double getDouble(Object object)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.getter, object, double.class))
+                return this.field.getDouble(object);
+            try {return (double)this.getter.invokeExact(object);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Sets the value of a boolean field from an object.
+         * @param  object object, is ignored for static fields
+         * @param  value  value
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public void setBoolean(Object object, boolean value)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.setter, object, boolean.class)) {
+                this.field.setBoolean(object, value);
+                return;
+            }
+            try {this.setter.invokeExact(object, value);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Sets the value of a byte field from an object.
+         * @param  object object, is ignored for static fields
+         * @param  value  value
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public void setByte(Object object, byte value)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.setter, object, byte.class)) {
+                this.field.setByte(object, value);
+                return;
+            }
+            try {this.setter.invokeExact(object, value);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Sets the value of a char field from an object.
+         * @param  object object, is ignored for static fields
+         * @param  value  value
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public void setChar(Object object, char value)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.setter, object, char.class)) {
+                this.field.setChar(object, value);
+                return;
+            }
+            try {this.setter.invokeExact(object, value);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Sets the value of a short field from an object.
+         * @param  object object, is ignored for static fields
+         * @param  value  value
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public void setShort(Object object, short value)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.setter, object, short.class)) {
+                this.field.setShort(object, value);
+                return;
+            }
+            try {this.setter.invokeExact(object, value);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Sets the value of an int field from an object.
+         * @param  object object, is ignored for static fields
+         * @param  value  value
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public void setInt(Object object, int value)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.setter, object, int.class)) {
+                this.field.setInt(object, value);
+                return;
+            }
+            try {this.setter.invokeExact(object, value);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Sets the value of a long field from an object.
+         * @param  object object, is ignored for static fields
+         * @param  value  value
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public void setLong(Object object, long value)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.setter, object, long.class)) {
+                this.field.setLong(object, value);
+                return;
+            }
+            try {this.setter.invokeExact(object, value);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Sets the value of a float field from an object.
+         * @param  object object, is ignored for static fields
+         * @param  value  value
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public void setFloat(Object object, float value)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.setter, object, float.class)) {
+                this.field.setFloat(object, value);
+                return;
+            }
+            try {this.setter.invokeExact(object, value);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+
+        /**
+         * Sets the value of a double field from an object.
+         * @param  object object, is ignored for static fields
+         * @param  value  value
+         * @throws IllegalAccessException
+         *     In the case of an access violation.
+         */
+        public void setDouble(Object object, double value)
+                throws IllegalAccessException {
+
+            if (!this.validate(this.setter, object, double.class)) {
+                this.field.setDouble(object, value);
+                return;
+            }
+            try {this.setter.invokeExact(object, value);
+            } catch (Throwable throwable) {
+                throw Accession.rethrow(throwable);
+            }
+        }
+    }
+
+    /**
+     * Accessor of a method based on method handles.
+     * The invocation via method handles is used for matching objects and
+     * arguments, other cases are delegated to the method, so that the
+     * exceptions are the same as with {@link Method#invoke(Object, Object...)}.
+     */
+    public static class MethodAccessor {
+
+        /** method */
+        private final Method method;
+
+        /** data types of the parameters */
+        private final Class<?>[] types;
+
+        /** wrappers of the data types of the parameters */
+        private final Class<?>[] wrappers;
+
+        /** declaring class of the method */
+        private final Class<?> source;
+
+        /** indicator for: method is static */
+        private final boolean isStatic;
+
+        /** handle (Object, Object...)Object with fixed arity, otherwise {@code null} */
+        private final MethodHandle invoker;
+
+        /** handle (Object, Object[])Object, otherwise {@code null} */
+        private final MethodHandle spreader;
+
+        /**
+         * Constructor, creates a new MethodAccessor object.
+         * @param method method
+         */
+        private MethodAccessor(Method method) {
+
+            this.method   = method;
+            this.types    = method.getParameterTypes();
+            this.wrappers = MethodType.methodType(void.class, this.types).wrap().parameterArray();
+            this.source   = method.getDeclaringClass();
+            this.isStatic = Modifier.isStatic(method.getModifiers());
+
+            MethodHandle handle = null;
+            try {handle = Accession.LOOKUP.unreflect(method).asFixedArity();
+                if (this.isStatic)
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                handle = handle.asType(MethodType.genericMethodType(this.types.length +1));
+            } catch (IllegalAccessException exception) {
+                handle = null;
+            }
+            this.invoker  = handle;
+            this.spreader = handle != null ? handle.asSpreader(Object[].class, this.types.length) : null;
+        }
+
+        /**
+         * Returns the method of the accessor as an own copy.
+         * @return the method
+         */
+        public Method getMethod() {
+            return Accession.duplicate(this.method);
+        }
+
+        /**
+         * Checks whether object and arguments can be used with the method
+         * handles.
+         * @param  object    object
+         * @param  arguments arguments
+         * @return {@code true} if object and arguments can be used
+         */
+        private boolean validate(Object object, Object[] arguments) {
+
+            if (this.invoker == null
+                    || (!this.isStatic && !this.source.isInstance(object))
+                    || arguments.length != this.types.length)
+                return false;
+            for (int loop = 0; loop < arguments.length; loop++) {
+                Object argument = arguments[loop];
+                if (this.types[loop].isPrimitive() ? argument == null || argument.getClass() != this.wrappers[loop]
+                        : argument != null && !this.types[loop].isInstance(argument))
+                    return false;
+            }
+            return true;
+        }
+
+        /**
+         * Executes the method with the arguments. For arguments with a
+         * primitive data type, the appropriate wrapper must be used. Returns
+         * the return value of the method as an object. Primitive data types
+         * are returned as a corresponding wrapper object.
+         * @param  object    object, is ignored for static methods
+         * @param  arguments arguments
+         * @return the return value of the method as an object
+         * @throws IllegalAccessException
+         *     In case of an access violation to the method.
+         * @throws InvocationTargetException
+         *     If call and/or execution of the method fails.
+         */
+        public Object invoke(Object object, Object... arguments)
+                throws IllegalAccessException, InvocationTargetException {
+
+            if (arguments == null)
+                arguments = new Object[0];
+            if (!this.validate(object, arguments))
+                return this.method.invoke(object, arguments);
+            try {
+                switch (arguments.length) {
+                    case 0:
+                        return (Object)this.invoker.invokeExact(object);
+                    case 1:
+                        return (Object)this.invoker.invokeExact(object, arguments[0]);
+                    case 2:
+                        return (Object)this.invoker.invokeExact(object, arguments[0], arguments[1]);
+                    case 3:
+                        return (Object)this.invoker.invokeExact(object, arguments[0], arguments[1], arguments[2]);
+                    default:
+                        return (Object)this.spreader.invokeExact(object, arguments);
+                }
+            } catch (Throwable throwable) {
+                throw new InvocationTargetException(throwable);
+            }
+        }
+    }
+
+    /**
+     * Precompiled synchronizer, which copies the values of fields from
+     * objects of a source class to objects of a target class.
+     * Filter and mapping are resolved when the synchronizer is created.
+     * Fields of the same data type are copied with one method handle, without
+     * boxing of primitive data types. Synthetic source fields and final
+     * target fields are ignored, static fields are ignored between objects.
+     */
+    public static class Synchronizer {
+
+        /** source class */
+        private final Class<?> source;
+
+        /** target class */
+        private final Class<?> target;
+
+        /** steps of the synchronization */
+        private final Step[] steps;
+
+        /** indicator for: values are copied deeply */
+        private final boolean deep;
+
+        /**
+         * Constructor, creates a new Synchronizer object.
+         * @param  source  source class
+         * @param  target  target class
+         * @param  filter  list of includes/excludes fields
+         * @param  mapping mapping table source -&lt; target
+         * @param  deep    {@code true} to copy the values deeply
+         * @param  statics {@code true} to include static fields
+         * @throws NoSuchFieldException
+         *     If a target field does not exist.
+         */
+        private Synchronizer(Class<?> source, Class<?> target, Filter filter, Map<String, String> mapping, boolean deep, boolean statics)
+                throws NoSuchFieldException {
+
+            this.source = source;
+            this.target = target;
+            this.deep   = deep;
+
+            List<Step> steps = new ArrayList<>();
+            FieldMatcher matcher = new FieldMatcher(source, filter);
+            for (Field field : Accession.METADATA.get(source).fields) {
+
+                if (!matcher.validate(field))
+                    continue;
+
+                if (field.isSynthetic()
+                        || (!statics && Modifier.isStatic(field.getModifiers())))
+                    continue;
+
+                String alias = field.getName();
+                if (mapping != null)
+                    alias = mapping.get(field.getName());
+                if (alias == null)
+                    alias = field.getName();
+
+                Field destination;
+                try {destination = Accession.lookupField(target, alias);
+                } catch (NoSuchFieldException exception) {
+                    if (filter instanceof AutoExclude
+                            || filter instanceof AutoInclude)
+                        continue;
+                    throw new NoSuchFieldException("Target field (" + alias + ") not found");
+                }
+
+                if (Modifier.isFinal(destination.getModifiers())
+                        || (!statics && Modifier.isStatic(destination.getModifiers())))
+                    continue;
+
+                steps.add(new Step(field, destination, deep));
+            }
+            this.steps = steps.toArray(new Step[0]);
+        }
+
+        /**
+         * Synchronizes two objects by copying the values of the fields from
+         * source to target.
+         * @param  source source object
+         * @param  target target object
+         * @throws IllegalAccessException
+         *     If access to a field fails.
+         */
+        public void synchronize(Object source, Object target)
+                throws IllegalAccessException {
+
+            Objects.requireNonNull(source, "Invalid source [null]");
+            Objects.requireNonNull(target, "Invalid target [null]");
+
+            this.synchronize(source, target, this.deep ? new IdentityHashMap<>() : null);
+        }
+
+        /**
+         * Synchronizes two objects by copying the values of the fields from
+         * source to target.
+         * @param  source source object
+         * @param  target target object
+         * @param  copies already copied values for deep copies
+         * @throws IllegalAccessException
+         *     If access to a field fails.
+         */
+        private void synchronize(Object source, Object target, Map<Object, Object> copies)
+                throws IllegalAccessException {
+
+            boolean direct = this.source.isInstance(source)
+                    && this.target.isInstance(target);
+            for (Step step : this.steps) {
+                if (direct
+                        && step.copier != null) {
+                    try {step.copier.invokeExact(target, source);
+                    } catch (Throwable throwable) {
+                        throw Accession.rethrow(throwable);
+                    }
+                    continue;
+                }
+                Object value = step.source.get(source);
+                if (copies != null)
+                    value = Accession.copy(value, copies);
+                Accession.set(target, step.target.field, value);
+            }
+        }
+
+        /** Internal step of the synchronization of a field. */
+        private static class Step {
+
+            /** accessor of the source field */
+            private final FieldAccessor source;
+
+            /** accessor of the target field */
+            private final FieldAccessor target;
+
+            /** handle (Object target, Object source)void, otherwise {@code null} */
+            private final MethodHandle copier;
+
+            /**
+             * Constructor, creates a new Step object.
+             * @param source source field
+             * @param target target field
+             * @param deep   {@code true} to copy the values deeply
+             */
+            private Step(Field source, Field target, boolean deep) {
+
+                this.source = Accession.getAccessor(source);
+                this.target = Accession.getAccessor(target);
+
+                MethodHandle copier = null;
+                if (this.source.getter != null
+                        && this.target.setter != null
+                        && source.getType().equals(target.getType())
+                        && (!deep || source.getType().isPrimitive()))
+                    copier = MethodHandles.filterArguments(this.target.setter, 1, this.source.getter);
+                this.copier = copier;
+            }
+        }
+    }
+
+    /**
+     * Internal plan of the fields of a class for a filter, as used by
+     * equals, hashCode, toString and deepEquals.
+     */
+    private static class Plan {
+
+        /** fields for equals and hashCode */
+        private final PlanField[] simple;
+
+        /** fields for toString */
+        private final PlanField[] string;
+
+        /** fields for deepEquals */
+        private final PlanField[] deep;
+
+        /**
+         * Constructor, creates a new Plan object.
+         * @param type   class
+         * @param filter filter
+         */
+        private Plan(Class<?> type, Filter filter) {
+
+            List<PlanField> simple = new ArrayList<>();
+            List<PlanField> string = new ArrayList<>();
+            List<PlanField> deep   = new ArrayList<>();
+
+            FieldMatcher matcher = new FieldMatcher(type, filter);
+            boolean serializable = Serializable.class.isAssignableFrom(type);
+            for (Field field : Accession.METADATA.get(type).fields) {
+                if (!matcher.validate(field))
+                    continue;
+                if (serializable
+                        && ("serialVersionUID").equals(field.getName()))
+                    continue;
+                PlanField entry = new PlanField(field);
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers)
+                        && !field.isSynthetic())
+                    deep.add(entry);
+                if (!Accession.isSimpleType(field.getType()))
+                    continue;
+                simple.add(entry);
+                if ((modifiers & (Modifier.FINAL | Modifier.STATIC)) != (Modifier.FINAL | Modifier.STATIC))
+                    string.add(entry);
+            }
+
+            this.simple = simple.toArray(new PlanField[0]);
+            this.string = string.toArray(new PlanField[0]);
+            this.deep   = deep.toArray(new PlanField[0]);
+        }
+    }
+
+    /** Internal field of a plan with access for the data type of the field. */
+    private static class PlanField {
+
+        /** kind for objects */
+        private static final int KIND_OBJECT = 0;
+
+        /** kind for boolean */
+        private static final int KIND_BOOLEAN = 1;
+
+        /** kind for byte */
+        private static final int KIND_BYTE = 2;
+
+        /** kind for char */
+        private static final int KIND_CHAR = 3;
+
+        /** kind for short */
+        private static final int KIND_SHORT = 4;
+
+        /** kind for int */
+        private static final int KIND_INT = 5;
+
+        /** kind for long */
+        private static final int KIND_LONG = 6;
+
+        /** kind for float */
+        private static final int KIND_FLOAT = 7;
+
+        /** kind for double */
+        private static final int KIND_DOUBLE = 8;
+
+        /** name of the field */
+        private final String name;
+
+        /** accessor of the field */
+        private final FieldAccessor accessor;
+
+        /** kind of the data type */
+        private final int kind;
+
+        /**
+         * Constructor, creates a new PlanField object.
+         * @param field field
+         */
+        private PlanField(Field field) {
+
+            this.name     = field.getName();
+            this.accessor = Accession.getAccessor(field);
+
+            Class<?> type = field.getType();
+            if (type == boolean.class)
+                this.kind = PlanField.KIND_BOOLEAN;
+            else if (type == byte.class)
+                this.kind = PlanField.KIND_BYTE;
+            else if (type == char.class)
+                this.kind = PlanField.KIND_CHAR;
+            else if (type == short.class)
+                this.kind = PlanField.KIND_SHORT;
+            else if (type == int.class)
+                this.kind = PlanField.KIND_INT;
+            else if (type == long.class)
+                this.kind = PlanField.KIND_LONG;
+            else if (type == float.class)
+                this.kind = PlanField.KIND_FLOAT;
+            else if (type == double.class)
+                this.kind = PlanField.KIND_DOUBLE;
+            else this.kind = PlanField.KIND_OBJECT;
+        }
+
+        /**
+         * Returns the value of the field, {@code null} if the access fails.
+         * @param  object object
+         * @return the value of the field
+         */
+        private Object value(Object object) {
+
+            try {return this.accessor.get(object);
+            } catch (Exception exception) {
+                return null;
+            }
+        }
+
+        /**
+         * Compares the field of two objects.
+         * Primitive data types are compared like the wrapper objects.
+         * @param  object1 object
+         * @param  object2 object for comparison
+         * @return {@code true} if the values of the field are equal
+         */
+        private boolean equals(Object object1, Object object2) {
+
+            try {
+                switch (this.kind) {
+                    case KIND_BOOLEAN:
+                        return this.accessor.getBoolean(object1) == this.accessor.getBoolean(object2);
+                    case KIND_BYTE:
+                        return this.accessor.getByte(object1) == this.accessor.getByte(object2);
+                    case KIND_CHAR:
+                        return this.accessor.getChar(object1) == this.accessor.getChar(object2);
+                    case KIND_SHORT:
+                        return this.accessor.getShort(object1) == this.accessor.getShort(object2);
+                    case KIND_INT:
+                        return this.accessor.getInt(object1) == this.accessor.getInt(object2);
+                    case KIND_LONG:
+                        return this.accessor.getLong(object1) == this.accessor.getLong(object2);
+                    case KIND_FLOAT:
+                        return Float.floatToIntBits(this.accessor.getFloat(object1))
+                                == Float.floatToIntBits(this.accessor.getFloat(object2));
+                    case KIND_DOUBLE:
+                        return Double.doubleToLongBits(this.accessor.getDouble(object1))
+                                == Double.doubleToLongBits(this.accessor.getDouble(object2));
+                    default:
+                }
+            } catch (Exception exception) {
+                return true;
+            }
+            return Objects.equals(this.value(object1), this.value(object2));
+        }
+
+        /**
+         * Returns the hash code of the field of an object.
+         * Primitive data types are hashed like the wrapper objects.
+         * @param  object object
+         * @return the hash code of the field
+         */
+        private int hash(Object object) {
+
+            try {
+                switch (this.kind) {
+                    case KIND_BOOLEAN:
+                        return Boolean.hashCode(this.accessor.getBoolean(object));
+                    case KIND_BYTE:
+                        return Byte.hashCode(this.accessor.getByte(object));
+                    case KIND_CHAR:
+                        return Character.hashCode(this.accessor.getChar(object));
+                    case KIND_SHORT:
+                        return Short.hashCode(this.accessor.getShort(object));
+                    case KIND_INT:
+                        return Integer.hashCode(this.accessor.getInt(object));
+                    case KIND_LONG:
+                        return Long.hashCode(this.accessor.getLong(object));
+                    case KIND_FLOAT:
+                        return Float.hashCode(this.accessor.getFloat(object));
+                    case KIND_DOUBLE:
+                        return Double.hashCode(this.accessor.getDouble(object));
+                    default:
+                        return Objects.hashCode(this.accessor.get(object));
+                }
+            } catch (Exception exception) {
+                return 0;
+            }
+        }
+
+        /**
+         * Appends the field of an object as {@code name=value}. If the access
+         * fails, the field is ignored.
+         * @param builder   builder
+         * @param object    object
+         * @param separator {@code true} to append a separator before
+         */
+        private void append(StringBuilder builder, Object object, boolean separator) {
+
+            int length = builder.length();
+            if (separator)
+                builder.append(", ");
+            builder.append(this.name).append("=");
+            try {
+                switch (this.kind) {
+                    case KIND_BOOLEAN:
+                        builder.append(this.accessor.getBoolean(object));
+                        break;
+                    case KIND_BYTE:
+                        builder.append(this.accessor.getByte(object));
+                        break;
+                    case KIND_CHAR:
+                        builder.append(this.accessor.getChar(object));
+                        break;
+                    case KIND_SHORT:
+                        builder.append(this.accessor.getShort(object));
+                        break;
+                    case KIND_INT:
+                        builder.append(this.accessor.getInt(object));
+                        break;
+                    case KIND_LONG:
+                        builder.append(this.accessor.getLong(object));
+                        break;
+                    case KIND_FLOAT:
+                        builder.append(this.accessor.getFloat(object));
+                        break;
+                    case KIND_DOUBLE:
+                        builder.append(this.accessor.getDouble(object));
+                        break;
+                    default:
+                        builder.append(this.accessor.get(object));
+                }
+            } catch (Exception exception) {
+                builder.setLength(length);
+            }
+        }
+    }
+
+    /** Internal pair of objects, compared by identity. */
+    private static class Pair {
+
+        /** object */
+        private final Object object1;
+
+        /** object */
+        private final Object object2;
+
+        /**
+         * Constructor, creates a new Pair object.
+         * @param object1 object
+         * @param object2 object
+         */
+        private Pair(Object object1, Object object2) {
+
+            this.object1 = object1;
+            this.object2 = object2;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof Pair
+                    && ((Pair)object).object1 == this.object1
+                    && ((Pair)object).object2 == this.object2;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 *System.identityHashCode(this.object1) +System.identityHashCode(this.object2);
+        }
+    }
+
+    /** Internal key of methods by name and data types. */
+    private static class MethodKey {
+
+        /** name of the method */
+        private final String name;
+
+        /** data types of the method */
+        private final Class<?>[] types;
+
+        /** hash code of the key */
+        private final int hash;
+
+        /**
+         * Constructor, creates a new MethodKey object.
+         * @param name  name of the method
+         * @param types data types of the method
+         */
+        private MethodKey(String name, Class<?>[] types) {
+
+            this.name  = name;
+            this.types = types == null ? new Class<?>[0] : types.clone();
+            this.hash  = 31 *name.hashCode() +Arrays.hashCode(this.types);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+
+            if (!(object instanceof MethodKey))
+                return false;
+            return this.name.equals(((MethodKey)object).name)
+                    && Arrays.equals(this.types, ((MethodKey)object).types);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /** Internal matcher for fields, based on {@link Filter} */
+    private static class FieldMatcher {
+        
+        /** list of fields */
+        private List<Field> fields;
+        
+        /** type of filter */
+        private Filter filter;
+        
+        /** 
+         * Constructor, creates a new FieldMatcher object.
+         * @param object object
+         * @param filter filter
+         */
+        private FieldMatcher(Object object, Filter filter) {
+            
+            this.filter = filter;
+            this.fields = new ArrayList<>();
+            if (filter == null)
+                return;
+            for (Object entry : filter.list()) {
+                if (entry instanceof String)
+                    try {entry = Accession.lookupField(object, (String)entry);
+                    } catch (NoSuchFieldException exception) {
                         continue;
                     }
-                if (entry instanceof Field)
-                    filter.add((Field)entry);
+                if (entry instanceof Field
+                        && !this.fields.contains(entry))
+                    this.fields.add((Field)entry);
             }
         }
         
@@ -1124,7 +2720,7 @@ public class Accession {
          * Checks whether the field is allowed.
          * For the {@link Exclude} / {@link AutoExclude} that does not contain
          * the field, for the {@link Include} / {@link AutoInclude} the field
-         * must be included.
+         * must be included. Without filter, all fields are allowed.
          * @param  field field
          * @return {@code true} if the field is allowed
          */
@@ -1132,6 +2728,8 @@ public class Accession {
             
             boolean contains;
             
+            if (this.filter == null)
+                return true;
             contains = this.fields.contains(field);
             if (this.filter instanceof Exclude
                     && !contains)
@@ -4,7 +4,7 @@
  * Diese Software unterliegt der Version 2 der GNU General Public License.
  *
  * Seanox Test SDK
- * Copyright (C) 2018 Seanox Software Solutions
+ * Copyright (C) 2026 Seanox Software Solutions
  *
  * This program is free software; you can redistribute it and/or modify it
  * under the terms of version 2 of the GNU General Public License as published
@@ -22,28 +22,74 @@
 package com.seanox.test.utils;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.naming.directory.NoSuchAttributeException;
 
 /**
  * Utilities for easy access to annotations.<br>
  * <br>
- * Annotations 2.0 20180106<br>
- * Copyright (C) 2018 Seanox Software Solutions.<br>
+ * The annotated fields and methods of the class hierarchy are indexed once
+ * per class by the type of annotation, so that repeated queries do not scan
+ * the class hierarchy again. The attributes of annotations are read with
+ * cached {@link Attribute} readers per type of annotation and attribute.<br>
+ * <br>
+ * Annotations 2.2 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions.<br>
  * All rights reserved.
  *
  * @author  Seanox Software Solutions
- * @version 2.0 20180106
+ * @version 2.2 20261019
  */
 public class Annotations {
     
+    /** index of the annotated members per class */
+    private static final ClassValue<Index> INDEX = new ClassValue<Index>() {
+        @Override
+        protected Index computeValue(Class<?> type) {
+            return new Index(type);
+        }
+    };
+
+    /** attribute readers per type of annotation */
+    private static final ClassValue<Map<String, Attribute<?>>> ATTRIBUTES = new ClassValue<Map<String, Attribute<?>>>() {
+        @Override
+        protected Map<String, Attribute<?>> computeValue(Class<?> type) {
+            Map<String, Attribute<?>> attributes = new HashMap<>();
+            if (!type.isAnnotation())
+                return attributes;
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.getParameterCount() != 0
+                        || method.isSynthetic())
+                    continue;
+                // attributes without method handle are determined via
+                // Accession, getAttribute throws the cause
+                try {attributes.put(method.getName(), new Attribute<>(method));
+                } catch (IllegalAccessException | RuntimeException exception) {
+                    continue;
+                }
+            }
+            return attributes;
+        }
+    };
+
+    /** lookup for the method handles of the attributes */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
     /** Constructor, creates a new Annotations object. */    
     private Annotations() {
         return;
@@ -83,7 +129,6 @@ public class Annotations {
      */       
     public static Field[] getFields(Class<?> source, Class<? extends Annotation> type, Class<?>[] filter, int modifiers) {
 
-        Annotation     annotation;
         List<Class<?>> types;
         List<Field>    fields;
         
@@ -96,19 +141,12 @@ public class Annotations {
             filter = new Class<?>[0];
         types = Arrays.asList(filter);
 
-        for (Class<?> entry : Accession.getClassHerachie(source, true)) {
-            for (Field field : entry.getDeclaredFields()) {
-                annotation = field.getAnnotation(type);
-                if (annotation == null)
-                    continue;
+        for (Member<Field> member : Annotations.INDEX.get(source).getFields(type)) {
 
-                //only relevant fields are determined
-                if ((types.isEmpty() || types.contains(field.getType())
-                        && (modifiers <= 0 || (field.getModifiers() & modifiers) == modifiers))) {
-                    field.setAccessible(true);
-                    fields.add(field);
-                }
-            }
+            //only relevant fields are determined
+            if ((types.isEmpty() || types.contains(member.type)
+                    && (modifiers <= 0 || (member.modifiers & modifiers) == modifiers)))
+                fields.add(member.access());
         }
 
         return fields.toArray(new Field[0]);
@@ -148,7 +186,6 @@ public class Annotations {
      */
     public static Method[] getMethods(Class<?> source, Class<? extends Annotation> type, Class<?>[] filter, int modifiers) {
 
-        Annotation     annotation;
         List<Class<?>> types;
         List<Method>   methods;
 
@@ -161,19 +198,12 @@ public class Annotations {
             filter = new Class<?>[0];
         types = Arrays.asList(filter);        
 
-        for (Class<?> entry : Accession.getClassHerachie(source, true)) {
-            for (Method method : entry.getDeclaredMethods()) {
-                annotation = method.getAnnotation(type);
-                if (annotation == null)
-                    continue;
+        for (Member<Method> member : Annotations.INDEX.get(source).getMethods(type)) {
 
-                //only relevant methods are determined
-                if ((types.isEmpty() || types.contains(method.getReturnType())
-                        && (modifiers <= 0 || (method.getModifiers() & modifiers) == modifiers))) {
-                    method.setAccessible(true);
-                    methods.add(method);
-                }
-            }
+            //only relevant methods are determined
+            if ((types.isEmpty() || types.contains(member.type)
+                    && (modifiers <= 0 || (member.modifiers & modifiers) == modifiers)))
+                methods.add(member.access());
         }
 
         return methods.toArray(new Method[0]);
@@ -187,19 +217,10 @@ public class Annotations {
      */
     public static Annotation getAnnotation(Class<?> source, Class<? extends Annotation> type) {
         
-        Annotation annotation;
-        
         Objects.requireNonNull(source, "Class required");
         Objects.requireNonNull(type, "Type of annotation required");        
         
-        for (Class<?> entry : Accession.getClassHerachie(source)) {
-            annotation = entry.getAnnotation(type);
-            if (annotation == null)
-                continue;
-            return annotation;
-        }
-        
-        return null;
+        return Annotations.INDEX.get(source).getAnnotation(type);
     }
 
     /**
@@ -277,6 +298,9 @@ public class Annotations {
         Objects.requireNonNull(annotation, "Annotation required");
         Objects.requireNonNull(attribute, "Attribute required");        
         
+        Attribute<?> reader = Annotations.ATTRIBUTES.get(annotation.annotationType()).get(attribute);
+        if (reader != null)
+            return reader.type;
         try {return Accession.getMethod(annotation, attribute).getReturnType();
         } catch (NoSuchMethodException exception) {
             throw new NoSuchAttributeException(exception.getMessage());
@@ -303,6 +327,9 @@ public class Annotations {
         Objects.requireNonNull(annotation, "Annotation required");
         Objects.requireNonNull(attribute, "Attribute required");        
         
+        Attribute<?> reader = Annotations.ATTRIBUTES.get(annotation.annotationType()).get(attribute);
+        if (reader != null)
+            return reader.method.getDefaultValue();
         try {return Accession.getMethod(annotation, attribute).getDefaultValue();
         } catch (NoSuchMethodException exception) {
             throw new NoSuchAttributeException(exception.getMessage());
@@ -333,9 +360,292 @@ public class Annotations {
         Objects.requireNonNull(annotation, "Annotation required");
         Objects.requireNonNull(attribute, "Attribute required");        
 
+        Attribute<?> reader = Annotations.ATTRIBUTES.get(annotation.annotationType()).get(attribute);
+        if (reader != null) {
+            try {return reader.handle.invokeExact(annotation);
+            } catch (Throwable throwable) {
+                throw new InvocationTargetException(throwable);
+            }
+        }
         try {return Accession.invoke(annotation, attribute);
         } catch (NoSuchMethodException exception) {
             throw new NoSuchAttributeException(exception.getMessage());
         }
-    }    
+    }
+
+    /**
+     * Returns the cached and typed reader of an attribute of a type of
+     * annotation or throws {@link NoSuchAttributeException} if the attribute
+     * does not exist. The reader is intended for repeated access, e.g. in
+     * data-driven tests.
+     * @param  <T>       data type of the value
+     * @param  type      type of annotation
+     * @param  attribute name of attribute
+     * @param  value     data type of the value, primitive data types are
+     *     used as wrapper
+     * @return the reader of the attribute
+     * @throws NoSuchAttributeException
+     *     If this attribute cannot be determined.
+     * @throws IllegalArgumentException
+     *     If the data type of the value does not match the attribute.
+     * @throws IllegalStateException
+     *     If no method handle can be created for the attribute.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Attribute<T> getAttribute(Class<? extends Annotation> type, String attribute, Class<T> value)
+            throws NoSuchAttributeException {
+
+        if (attribute != null)
+            attribute = attribute.trim();
+        if (attribute != null
+                && attribute.isEmpty())
+            attribute = null;
+
+        Objects.requireNonNull(type, "Type of annotation required");
+        Objects.requireNonNull(attribute, "Attribute required");
+        Objects.requireNonNull(value, "Type of value required");
+
+        Attribute<?> reader = Annotations.ATTRIBUTES.get(type).get(attribute);
+        if (reader == null) {
+            Method method;
+            try {method = type.getDeclaredMethod(attribute);
+            } catch (NoSuchMethodException | SecurityException exception) {
+                throw new NoSuchAttributeException(type.getName() + "." + attribute + "()");
+            }
+            try {reader = new Attribute<>(method);
+            } catch (IllegalAccessException | RuntimeException exception) {
+                throw new IllegalStateException("Inaccessible attribute: " + type.getName() + "." + attribute + "()", exception);
+            }
+        }
+        if (!MethodType.methodType(value).wrap().returnType().isAssignableFrom(
+                MethodType.methodType(reader.type).wrap().returnType()))
+            throw new IllegalArgumentException("Invalid type of value: " + value.getName());
+        return (Attribute<T>)reader;
+    }
+
+    /**
+     * Cached and typed reader of an attribute of an annotation.
+     * The value is read via a method handle without lookup per call.
+     * @param <T> data type of the value
+     */
+    public static class Attribute<T> {
+
+        /** method of the attribute */
+        private final Method method;
+
+        /** data type of the attribute */
+        private final Class<?> type;
+
+        /** method handle as (Annotation)Object */
+        private final MethodHandle handle;
+
+        /**
+         * Constructor, creates a new Attribute object.
+         * @param  method method of the attribute
+         * @throws IllegalAccessException
+         *     If no method handle can be created for the attribute.
+         */
+        private Attribute(Method method)
+                throws IllegalAccessException {
+
+            this.method = method;
+            this.type   = method.getReturnType();
+
+            try {method.setAccessible(true);
+            } catch (RuntimeException exception) {
+                // the method handle is created without access
+            }
+            this.handle = Annotations.LOOKUP.unreflect(method)
+                    .asType(MethodType.methodType(Object.class, Annotation.class));
+        }
+
+        /**
+         * Returns the name of the attribute.
+         * @return the name of the attribute
+         */
+        public String getName() {
+            return this.method.getName();
+        }
+
+        /**
+         * Returns the data type of the attribute.
+         * @return the data type of the attribute
+         */
+        public Class<?> getType() {
+            return this.type;
+        }
+
+        /**
+         * Returns the default value of the attribute.
+         * @return the default value, otherwise {@code null}
+         */
+        @SuppressWarnings("unchecked")
+        public T getDefault() {
+            return (T)this.method.getDefaultValue();
+        }
+
+        /**
+         * Returns the value of the attribute of an annotation.
+         * @param  annotation annotation
+         * @return the value of the attribute
+         * @throws ClassCastException
+         *     If the annotation does not match the type of the attribute.
+         */
+        @SuppressWarnings("unchecked")
+        public T getValue(Annotation annotation) {
+
+            Objects.requireNonNull(annotation, "Annotation required");
+            try {return (T)this.handle.invokeExact(annotation);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.method.getDeclaringClass().getName() + "." + this.method.getName() + "()";
+        }
+    }
+
+    /**
+     * Internal index of the annotated members of a class hierarchy.
+     * The index is based on the index of the superclass, the members are in
+     * order of the class hierarchy, starting with the superclass.
+     */
+    private static class Index {
+
+        /** sentinel for annotations that do not exist */
+        private static final Object NONE = new Object();
+
+        /** type of the class */
+        private final Class<?> source;
+
+        /** annotated fields per type of annotation */
+        private final Map<Class<?>, List<Member<Field>>> fields;
+
+        /** annotated methods per type of annotation */
+        private final Map<Class<?>, List<Member<Method>>> methods;
+
+        /** determined annotations of the class hierarchy */
+        private final Map<Class<?>, Object> annotations;
+
+        /**
+         * Constructor, creates a new Index object.
+         * @param source type of the class
+         */
+        private Index(Class<?> source) {
+
+            Index parent = source.getSuperclass() != null ? Annotations.INDEX.get(source.getSuperclass()) : null;
+
+            this.source      = source;
+            this.fields      = new HashMap<>();
+            this.methods     = new HashMap<>();
+            this.annotations = new ConcurrentHashMap<>();
+
+            if (parent != null) {
+                for (Map.Entry<Class<?>, List<Member<Field>>> entry : parent.fields.entrySet())
+                    this.fields.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+                for (Map.Entry<Class<?>, List<Member<Method>>> entry : parent.methods.entrySet())
+                    this.methods.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+            }
+
+            for (Field field : source.getDeclaredFields()) {
+                Member<Field> member = new Member<>(field, field.getType(), field.getModifiers());
+                for (Annotation annotation : field.getDeclaredAnnotations())
+                    this.fields.computeIfAbsent(annotation.annotationType(), key -> new ArrayList<>()).add(member);
+            }
+            for (Method method : source.getDeclaredMethods()) {
+                Member<Method> member = new Member<>(method, method.getReturnType(), method.getModifiers());
+                for (Annotation annotation : method.getDeclaredAnnotations())
+                    this.methods.computeIfAbsent(annotation.annotationType(), key -> new ArrayList<>()).add(member);
+            }
+        }
+
+        /**
+         * Returns the fields with an annotation.
+         * @param  type type of annotation
+         * @return the fields with the annotation
+         */
+        private List<Member<Field>> getFields(Class<? extends Annotation> type) {
+            return this.fields.getOrDefault(type, Collections.emptyList());
+        }
+
+        /**
+         * Returns the methods with an annotation.
+         * @param  type type of annotation
+         * @return the methods with the annotation
+         */
+        private List<Member<Method>> getMethods(Class<? extends Annotation> type) {
+            return this.methods.getOrDefault(type, Collections.emptyList());
+        }
+
+        /**
+         * Returns the annotation of the class hierarchy, starting with the
+         * class itself.
+         * @param  type type of annotation
+         * @return the annotation, otherwise {@code null}
+         */
+        private Annotation getAnnotation(Class<? extends Annotation> type) {
+
+            Object annotation = this.annotations.get(type);
+            if (annotation == null) {
+                for (Class<?> entry : Accession.getClassHerachie(this.source)) {
+                    annotation = entry.getAnnotation(type);
+                    if (annotation != null)
+                        break;
+                }
+                if (annotation == null)
+                    annotation = Index.NONE;
+                this.annotations.put(type, annotation);
+            }
+            return annotation != Index.NONE ? (Annotation)annotation : null;
+        }
+    }
+
+    /**
+     * Internal annotated member with precomputed data type and modifiers.
+     * @param <T> type of member
+     */
+    private static class Member<T extends AccessibleObject> {
+
+        /** member */
+        private final T member;
+
+        /** data type of the field or return type of the method */
+        private final Class<?> type;
+
+        /** modifiers of the member */
+        private final int modifiers;
+
+        /**
+         * Constructor, creates a new Member object.
+         * @param member    member
+         * @param type      data type of the field or return type of the method
+         * @param modifiers modifiers of the member
+         */
+        private Member(T member, Class<?> type, int modifiers) {
+
+            this.member    = member;
+            this.type      = type;
+            this.modifiers = modifiers;
+
+            try {member.setAccessible(true);
+            } catch (RuntimeException exception) {
+                // access is requested again when the member is used
+            }
+        }
+
+        /**
+         * Returns the accessible member.
+         * @return the accessible member
+         */
+        private T access() {
+
+            if (!this.member.isAccessible())
+                this.member.setAccessible(true);
+            return this.member;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,592 @@
+/**
+ * LIZENZBEDINGUNGEN - Seanox Software Solutions ist ein Open-Source-Projekt,
+ * im Folgenden Seanox Software Solutions oder kurz Seanox genannt.
+ * Diese Software unterliegt der Version 2 der GNU General Public License.
+ *
+ * Seanox Test SDK
+ * Copyright (C) 2026 Seanox Software Solutions
+ *
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of version 2 of the GNU General Public License as published
+ * by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.seanox.test.utils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.junit.Assert;
+
+/**
+ * Simple statistical micro-benchmark based on {@link Timing}.<br>
+ * <br>
+ * A task is executed with a number of warmup iterations (not measured) and
+ * a number of measured iterations. Each iteration executes the task a number
+ * of operations (batch), so that very fast code can also be measured. The
+ * results of the task should be consumed by the {@link Blackhole}, so that
+ * the code is not eliminated by the JIT compiler. The time per operation of
+ * each iteration is used as sample for the {@link Statistics} with mean,
+ * standard deviation, percentiles and confidence intervals, which can be
+ * used for stable assertions.
+ *
+ * <h3>Example</h3>
+ * <pre>
+ * Benchmark.Statistics statistics = Benchmark.create()
+ *         .warmup(1000).measure(100).batch(1000)
+ *         .run(blackhole -&gt; blackhole.consume(TextUtils.escape(text)));
+ * statistics.assertConfidenceIn(0.99, Duration.ofNanos(500));
+ * </pre>
+ * Benchmark 1.0 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
+ * All rights reserved.
+ *
+ * @author  Seanox Software Solutions
+ * @version 1.0 20261019
+ */
+public class Benchmark {
+
+    /** number of warmup iterations */
+    private int warmups;
+
+    /** number of measured iterations */
+    private int iterations;
+
+    /** number of operations per iteration */
+    private int operations;
+
+    /** Constructor, creates a new Benchmark object. */
+    private Benchmark() {
+
+        this.warmups    = 10;
+        this.iterations = 100;
+        this.operations = 1;
+    }
+
+    /**
+     * Creates a new Benchmark object with 10 warmup iterations, 100 measured
+     * iterations and one operation per iteration.
+     * @return the created Benchmark object
+     */
+    public static Benchmark create() {
+        return new Benchmark();
+    }
+
+    /**
+     * Sets the number of warmup iterations.
+     * @param  iterations number of warmup iterations
+     * @return the Benchmark object itself
+     * @throws IllegalArgumentException
+     *     In case of a negative number.
+     */
+    public Benchmark warmup(int iterations) {
+
+        if (iterations < 0)
+            throw new IllegalArgumentException("Invalid number of warmup iterations");
+        this.warmups = iterations;
+        return this;
+    }
+
+    /**
+     * Sets the number of measured iterations.
+     * @param  iterations number of measured iterations
+     * @return the Benchmark object itself
+     * @throws IllegalArgumentException
+     *     If the number is less than 2.
+     */
+    public Benchmark measure(int iterations) {
+
+        if (iterations < 2)
+            throw new IllegalArgumentException("Invalid number of iterations");
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Sets the number of operations per iteration.
+     * @param  operations number of operations per iteration
+     * @return the Benchmark object itself
+     * @throws IllegalArgumentException
+     *     If the number is less than 1.
+     */
+    public Benchmark batch(int operations) {
+
+        if (operations < 1)
+            throw new IllegalArgumentException("Invalid number of operations");
+        this.operations = operations;
+        return this;
+    }
+
+    /**
+     * Executes the benchmark.
+     * @param  task task
+     * @return the statistics of the measured iterations
+     * @throws Exception
+     *     In case of exceptions of the task.
+     */
+    public Statistics run(Task task)
+            throws Exception {
+
+        Objects.requireNonNull(task, "Task required");
+
+        Blackhole blackhole = new Blackhole();
+        for (int loop = 0; loop < this.warmups; loop++)
+            for (int count = 0; count < this.operations; count++)
+                task.run(blackhole);
+
+        Timing timing = Timing.create(false, this.iterations);
+        timing.start();
+        for (int loop = 0; loop < this.iterations; loop++) {
+            for (int count = 0; count < this.operations; count++)
+                task.run(blackhole);
+            timing.lap();
+        }
+        timing.stop();
+        blackhole.publish();
+
+        double[] samples = new double[this.iterations];
+        for (int loop = 0; loop < this.iterations; loop++)
+            samples[loop] = (double)timing.getLap(loop) /this.operations;
+        return new Statistics(samples);
+    }
+
+    /** Interface of the task of a benchmark. */
+    @FunctionalInterface
+    public interface Task {
+
+        /**
+         * Executes one operation of the benchmark.
+         * @param  blackhole blackhole for the results
+         * @throws Exception
+         *     In case of unexpected errors.
+         */
+        void run(Blackhole blackhole)
+            throws Exception;
+    }
+
+    /**
+     * Consumer of the results of a task, so that the code of the task is not
+     * eliminated by the JIT compiler as unused. Primitive values are combined
+     * in a field, objects are compared with an unpredictable condition and
+     * only rarely stored (as with JMH). The values are published at the end
+     * of the benchmark.
+     */
+    public static class Blackhole {
+
+        /** published combination of the consumed primitive values */
+        private static volatile long sink;
+
+        /** published consumed object */
+        private static volatile Object reference;
+
+        /** combination of the consumed primitive values */
+        private long hash;
+
+        /** pseudo-random sequence for the condition of storing objects */
+        private int random;
+
+        /** mask of the condition of storing objects, grows with each store */
+        private volatile int mask = 1;
+
+        /** rarely stored consumed object */
+        private Object object;
+
+        /** Constructor, creates a new Blackhole object. */
+        private Blackhole() {
+            return;
+        }
+
+        /**
+         * Consumes an object. Because the object may be stored under a
+         * condition that is unpredictable for the JIT compiler, each consumed
+         * object remains observable and its creation cannot be eliminated.
+         * The condition becomes increasingly rare, so that the costs are
+         * limited to a few arithmetic operations and a volatile read.
+         * @param object object
+         */
+        public void consume(Object object) {
+            int mask = this.mask;
+            int random = this.random = this.random *1664525 +1013904223;
+            if ((random & mask) == 0) {
+                this.object = object;
+                this.mask = (mask << 1) +1;
+            }
+        }
+
+        /**
+         * Consumes a boolean value.
+         * @param value value
+         */
+        public void consume(boolean value) {
+            this.hash = this.hash *31 +(value ? 1 : 0);
+        }
+
+        /**
+         * Consumes an int value.
+         * @param value value
+         */
+        public void consume(int value) {
+            this.hash = this.hash *31 +value;
+        }
+
+        /**
+         * Consumes a long value.
+         * @param value value
+         */
+        public void consume(long value) {
+            this.hash = this.hash *31 +value;
+        }
+
+        /**
+         * Consumes a double value.
+         * @param value value
+         */
+        public void consume(double value) {
+            this.hash = this.hash *31 +Double.doubleToRawLongBits(value);
+        }
+
+        /** Publishes the consumed values. */
+        private void publish() {
+            Blackhole.sink = this.hash;
+            Blackhole.reference = this.object;
+        }
+    }
+
+    /** Statistics of the samples (time per operation) of a benchmark. */
+    public static class Statistics {
+
+        /** sorted samples in nanoseconds */
+        private final double[] samples;
+
+        /** mean in nanoseconds */
+        private final double mean;
+
+        /** standard deviation (sample) in nanoseconds */
+        private final double deviation;
+
+        /**
+         * Constructor, creates a new Statistics object.
+         * @param samples samples in nanoseconds
+         */
+        private Statistics(double[] samples) {
+
+            this.samples = samples.clone();
+            Arrays.sort(this.samples);
+
+            double sum = 0;
+            for (double sample : this.samples)
+                sum += sample;
+            this.mean = sum /this.samples.length;
+
+            double squares = 0;
+            for (double sample : this.samples)
+                squares += (sample -this.mean) *(sample -this.mean);
+            this.deviation = Math.sqrt(squares /(this.samples.length -1));
+        }
+
+        /**
+         * Returns the sorted samples (time per operation) in nanoseconds.
+         * @return the sorted samples in nanoseconds
+         */
+        public double[] getSamples() {
+            return this.samples.clone();
+        }
+
+        /**
+         * Returns the number of samples.
+         * @return the number of samples
+         */
+        public int getCount() {
+            return this.samples.length;
+        }
+
+        /**
+         * Returns the mean in nanoseconds.
+         * @return the mean in nanoseconds
+         */
+        public double getMean() {
+            return this.mean;
+        }
+
+        /**
+         * Returns the standard deviation of the samples in nanoseconds.
+         * @return the standard deviation in nanoseconds
+         */
+        public double getStandardDeviation() {
+            return this.deviation;
+        }
+
+        /**
+         * Returns the smallest sample in nanoseconds.
+         * @return the smallest sample in nanoseconds
+         */
+        public double getMin() {
+            return this.samples[0];
+        }
+
+        /**
+         * Returns the largest sample in nanoseconds.
+         * @return the largest sample in nanoseconds
+         */
+        public double getMax() {
+            return this.samples[this.samples.length -1];
+        }
+
+        /**
+         * Returns a percentile in nanoseconds, linearly interpolated between
+         * the samples.
+         * @param  percentile percentile (0 - 100)
+         * @return the percentile in nanoseconds
+         * @throws IllegalArgumentException
+         *     If the percentile is not between 0 and 100.
+         */
+        public double getPercentile(double percentile) {
+
+            if (!(percentile >= 0 && percentile <= 100))
+                throw new IllegalArgumentException("Invalid percentile");
+            double position = percentile /100 *(this.samples.length -1);
+            int index = (int)Math.floor(position);
+            if (index >= this.samples.length -1)
+                return this.samples[this.samples.length -1];
+            return this.samples[index] +(position -index) *(this.samples[index +1] -this.samples[index]);
+        }
+
+        /**
+         * Returns the median in nanoseconds.
+         * @return the median in nanoseconds
+         */
+        public double getMedian() {
+            return this.getPercentile(50);
+        }
+
+        /**
+         * Returns the confidence interval of the mean in nanoseconds, based
+         * on the Student's t-distribution.
+         * @param  confidence confidence level (e.g. 0.99)
+         * @return the lower and upper bound in nanoseconds
+         * @throws IllegalArgumentException
+         *     If the confidence level is not between 0 and 1 (exclusive).
+         */
+        public double[] getConfidenceInterval(double confidence) {
+
+            if (!(confidence > 0 && confidence < 1))
+                throw new IllegalArgumentException("Invalid confidence level");
+            double quantile = Statistics.quantileStudentT(1 -(1 -confidence) /2, this.samples.length -1);
+            double error = quantile *this.deviation /Math.sqrt(this.samples.length);
+            return new double[] {this.mean -error, this.mean +error};
+        }
+
+        /**
+         * Returns the quantile of the Student's t-distribution.
+         * The quantile is determined by bisection of the distribution.
+         * @param  probability probability (0.5 - 1)
+         * @param  freedom     degrees of freedom
+         * @return the quantile
+         */
+        private static double quantileStudentT(double probability, double freedom) {
+
+            double lower = 0;
+            double upper = 1;
+            while (Statistics.distributionStudentT(upper, freedom) < probability)
+                upper *= 2;
+            for (int loop = 0; loop < 100 && upper -lower > 1e-12; loop++) {
+                double middle = (lower +upper) /2;
+                if (Statistics.distributionStudentT(middle, freedom) < probability)
+                    lower = middle;
+                else upper = middle;
+            }
+            return (lower +upper) /2;
+        }
+
+        /**
+         * Returns the cumulative distribution function of the Student's
+         * t-distribution.
+         * @param  value   value
+         * @param  freedom degrees of freedom
+         * @return the cumulative probability
+         */
+        static double distributionStudentT(double value, double freedom) {
+
+            double tail = 0.5 *Statistics.incompleteBeta(freedom /(freedom +value *value), freedom /2, 0.5);
+            return value >= 0 ? 1 -tail : tail;
+        }
+
+        /**
+         * Returns the regularized incomplete beta function I<sub>x</sub>(a, b).
+         * @param  x value (0 - 1)
+         * @param  a parameter a
+         * @param  b parameter b
+         * @return the value of the function
+         */
+        private static double incompleteBeta(double x, double a, double b) {
+
+            if (x <= 0)
+                return 0;
+            if (x >= 1)
+                return 1;
+            double front = Math.exp(Statistics.logGamma(a +b) -Statistics.logGamma(a) -Statistics.logGamma(b)
+                    +a *Math.log(x) +b *Math.log(1 -x));
+            if (x < (a +1) /(a +b +2))
+                return front *Statistics.continuedFraction(x, a, b) /a;
+            return 1 -front *Statistics.continuedFraction(1 -x, b, a) /b;
+        }
+
+        /**
+         * Returns the continued fraction of the incomplete beta function
+         * (modified Lentz's method).
+         * @param  x value
+         * @param  a parameter a
+         * @param  b parameter b
+         * @return the value of the continued fraction
+         */
+        private static double continuedFraction(double x, double a, double b) {
+
+            final double tiny = 1e-300;
+            double c = 1;
+            double d = 1 -(a +b) *x /(a +1);
+            if (Math.abs(d) < tiny)
+                d = tiny;
+            d = 1 /d;
+            double result = d;
+            for (int loop = 1; loop <= 300; loop++) {
+                int m2 = loop *2;
+                double term = loop *(b -loop) *x /((a +m2 -1) *(a +m2));
+                d = 1 +term *d;
+                if (Math.abs(d) < tiny)
+                    d = tiny;
+                c = 1 +term /c;
+                if (Math.abs(c) < tiny)
+                    c = tiny;
+                d = 1 /d;
+                result *= d *c;
+                term = -(a +loop) *(a +b +loop) *x /((a +m2) *(a +m2 +1));
+                d = 1 +term *d;
+                if (Math.abs(d) < tiny)
+                    d = tiny;
+                c = 1 +term /c;
+                if (Math.abs(c) < tiny)
+                    c = tiny;
+                d = 1 /d;
+                double delta = d *c;
+                result *= delta;
+                if (Math.abs(delta -1) < 1e-15)
+                    break;
+            }
+            return result;
+        }
+
+        /**
+         * Returns the natural logarithm of the gamma function (Lanczos
+         * approximation).
+         * @param  x value (greater than 0)
+         * @return the logarithm of the gamma function
+         */
+        private static double logGamma(double x) {
+
+            final double[] coefficients = {76.18009172947146, -86.50532032941677, 24.01409824083091,
+                    -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5};
+            double y = x;
+            double temp = x +5.5;
+            temp -= (x +0.5) *Math.log(temp);
+            double series = 1.000000000190015;
+            for (double coefficient : coefficients)
+                series += coefficient /++y;
+            return -temp +Math.log(2.5066282746310005 *series /x);
+        }
+
+        /**
+         * Formats a time in nanoseconds with a suitable unit.
+         * @param  nanos time in nanoseconds
+         * @return the formatted time
+         */
+        private static String format(double nanos) {
+
+            if (nanos >= 1e9)
+                return String.format(Locale.ENGLISH, "%.3f s", Double.valueOf(nanos /1e9));
+            if (nanos >= 1e6)
+                return String.format(Locale.ENGLISH, "%.3f ms", Double.valueOf(nanos /1e6));
+            if (nanos >= 1e3)
+                return String.format(Locale.ENGLISH, "%.3f us", Double.valueOf(nanos /1e3));
+            return String.format(Locale.ENGLISH, "%.3f ns", Double.valueOf(nanos));
+        }
+
+        /**
+         * Checks whether the mean is less than or equal to the specified
+         * duration.
+         * @param duration duration
+         */
+        public void assertMeanIn(Duration duration) {
+
+            Objects.requireNonNull(duration, "Duration required");
+            if (this.mean > duration.toNanos())
+                Assert.assertEquals("mean in " + Statistics.format(duration.toNanos()), Statistics.format(this.mean));
+        }
+
+        /**
+         * Checks whether a percentile is less than or equal to the specified
+         * duration.
+         * @param percentile percentile (0 - 100)
+         * @param duration   duration
+         */
+        public void assertPercentileIn(double percentile, Duration duration) {
+
+            Objects.requireNonNull(duration, "Duration required");
+            double value = this.getPercentile(percentile);
+            if (value > duration.toNanos())
+                Assert.assertEquals("p" + percentile + " in " + Statistics.format(duration.toNanos()), Statistics.format(value));
+        }
+
+        /**
+         * Checks whether the upper bound of the confidence interval of the
+         * mean is less than or equal to the specified duration, so that the
+         * mean is within the duration with the confidence level.
+         * @param confidence confidence level (e.g. 0.99)
+         * @param duration   duration
+         */
+        public void assertConfidenceIn(double confidence, Duration duration) {
+
+            Objects.requireNonNull(duration, "Duration required");
+            double value = this.getConfidenceInterval(confidence)[1];
+            if (value > duration.toNanos())
+                Assert.assertEquals("mean in " + Statistics.format(duration.toNanos()) + " with " + confidence,
+                        Statistics.format(value));
+        }
+
+        /**
+         * Checks whether the lower bound of the confidence interval of the
+         * mean is greater than or equal to the specified duration, so that
+         * the mean is out of the duration with the confidence level.
+         * @param confidence confidence level (e.g. 0.99)
+         * @param duration   duration
+         */
+        public void assertConfidenceOut(double confidence, Duration duration) {
+
+            Objects.requireNonNull(duration, "Duration required");
+            double value = this.getConfidenceInterval(confidence)[0];
+            if (value < duration.toNanos())
+                Assert.assertEquals("mean out of " + Statistics.format(duration.toNanos()) + " with " + confidence,
+                        Statistics.format(value));
+        }
+
+        @Override
+        public String toString() {
+
+            double[] interval = this.getConfidenceInterval(0.99);
+            return String.format(Locale.ENGLISH, "mean %s (99%% CI %s - %s), stddev %s, min %s, p50 %s, p90 %s, p99 %s, max %s, n %d",
+                    Statistics.format(this.mean), Statistics.format(interval[0]), Statistics.format(interval[1]),
+                    Statistics.format(this.deviation), Statistics.format(this.getMin()), Statistics.format(this.getMedian()),
+                    Statistics.format(this.getPercentile(90)), Statistics.format(this.getPercentile(99)),
+                    Statistics.format(this.getMax()), Integer.valueOf(this.samples.length));
+        }
+    }
+}
@@ -0,0 +1,819 @@
+/**
+ * LIZENZBEDINGUNGEN - Seanox Software Solutions ist ein Open-Source-Projekt,
+ * im Folgenden Seanox Software Solutions oder kurz Seanox genannt.
+ * Diese Software unterliegt der Version 2 der GNU General Public License.
+ *
+ * Seanox Test SDK
+ * Copyright (C) 2026 Seanox Software Solutions
+ *
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of version 2 of the GNU General Public License as published
+ * by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.seanox.test.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Scanner for annotated classes and methods of directories and jars, based
+ * on the bytes of the class files, without loading and initializing the
+ * classes. The sources are scanned in parallel, the results of jars can be
+ * cached in a directory, keyed by the checksum of the jar.<br>
+ * <br>
+ * The index contains the runtime visible annotations declared by classes and
+ * methods (like {@link Class#getDeclaredAnnotations()}), inherited
+ * annotations can be determined with {@link Index#getSubclasses(String)}.
+ * Classes are named by their binary names (e.g.
+ * {@code com.seanox.test.AbstractSuite$Initiate}). If a class exists in
+ * multiple sources, the first source is used, like in the class path.
+ *
+ * <h3>Example</h3>
+ * <pre>
+ * ClassScanner.Index index = ClassScanner.scan(cache, ClassScanner.getClassPath());
+ * for (ClassScanner.Entry entry : index.getSubclasses(AbstractSuite.class))
+ *     ...
+ * </pre>
+ * ClassScanner 1.0 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
+ * All rights reserved.
+ *
+ * @author  Seanox Software Solutions
+ * @version 1.0 20261019
+ */
+public class ClassScanner {
+
+    /** magic number of class files */
+    private static final int CLASS_MAGIC = 0xCAFEBABE;
+
+    /** magic number and version of the cache files */
+    private static final int CACHE_MAGIC = 0x53435331;
+
+    /** name of the attribute for runtime visible annotations */
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    /** Constructor, creates a new ClassScanner object. */
+    private ClassScanner() {
+        return;
+    }
+
+    /**
+     * Returns the entries of the class path of the current JVM.
+     * @return the entries of the class path
+     */
+    public static File[] getClassPath() {
+
+        String classpath = System.getProperty("java.class.path", "");
+        return Arrays.stream(classpath.split(java.util.regex.Pattern.quote(File.pathSeparator)))
+                .filter(entry -> !entry.trim().isEmpty())
+                .map(File::new)
+                .toArray(File[]::new);
+    }
+
+    /**
+     * Scans directories and jars without cache.
+     * Not existing sources are ignored.
+     * @param  sources directories and jars
+     * @return the created index
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public static Index scan(File... sources)
+            throws IOException {
+        return ClassScanner.scan(null, sources);
+    }
+
+    /**
+     * Scans directories and jars in parallel. The results of jars are cached
+     * in the cache directory, keyed by the checksum (CRC32) of the jar.
+     * Not existing sources are ignored.
+     * @param  cache   cache directory, {@code null} without cache
+     * @param  sources directories and jars
+     * @return the created index
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public static Index scan(File cache, File[] sources)
+            throws IOException {
+
+        if (sources == null)
+            sources = new File[0];
+        if (cache != null)
+            Files.createDirectories(cache.toPath());
+
+        // directories are split into the class files, so that all class
+        // files and jars are scanned in parallel
+        List<Object> units = new ArrayList<>();
+        List<Integer> origins = new ArrayList<>();
+        for (int loop = 0; loop < sources.length; loop++) {
+            File source = sources[loop];
+            if (source == null
+                    || !source.exists())
+                continue;
+            if (source.isDirectory()) {
+                try (Stream<Path> stream = Files.walk(source.toPath())) {
+                    for (Path path : stream.filter(path -> path.toString().endsWith(".class")).sorted().collect(Collectors.toList())) {
+                        units.add(path);
+                        origins.add(Integer.valueOf(loop));
+                    }
+                }
+            } else {
+                units.add(source);
+                origins.add(Integer.valueOf(loop));
+            }
+        }
+
+        List<List<Entry>> results;
+        try {results = IntStream.range(0, units.size()).parallel().mapToObj(index -> {
+                Object unit = units.get(index);
+                try {
+                    if (unit instanceof Path) {
+                        Entry entry = ClassScanner.parse(Files.readAllBytes((Path)unit));
+                        return entry != null ? Arrays.asList(entry) : new ArrayList<Entry>();
+                    }
+                    return ClassScanner.scanArchive((File)unit, cache);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            }).collect(Collectors.toList());
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        for (List<Entry> result : results)
+            for (Entry entry : result)
+                entries.putIfAbsent(entry.name, entry);
+        return new Index(entries);
+    }
+
+    /**
+     * Scans a jar, if available with the cache.
+     * @param  archive jar
+     * @param  cache   cache directory, {@code null} without cache
+     * @return the entries of the jar
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    private static List<Entry> scanArchive(File archive, File cache)
+            throws IOException {
+
+        File file = null;
+        if (cache != null) {
+            CRC32 checksum = new CRC32();
+            try (FileChannel channel = FileChannel.open(archive.toPath(), StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(65536);
+                while (channel.read(buffer) >= 0) {
+                    buffer.flip();
+                    checksum.update(buffer);
+                    buffer.clear();
+                }
+            }
+            file = new File(cache, archive.getName() + "-" + String.format("%08x", Long.valueOf(checksum.getValue())) + ".idx");
+            if (file.isFile())
+                try {return ClassScanner.readCache(file);
+                } catch (IOException exception) {
+                    // faulty cache files are created again
+                }
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        try (ZipFile zip = new ZipFile(archive)) {
+            for (Enumeration<? extends ZipEntry> enumeration = zip.entries(); enumeration.hasMoreElements();) {
+                ZipEntry entry = enumeration.nextElement();
+                if (entry.isDirectory()
+                        || !entry.getName().endsWith(".class")
+                        || entry.getName().startsWith("META-INF/"))
+                    continue;
+                try (InputStream input = zip.getInputStream(entry)) {
+                    Entry result = ClassScanner.parse(StreamUtils.read(input));
+                    if (result != null)
+                        entries.add(result);
+                }
+            }
+        }
+
+        if (file != null)
+            ClassScanner.writeCache(file, entries);
+        return entries;
+    }
+
+    /**
+     * Reads the entries of a cache file.
+     * @param  file cache file
+     * @return the entries of the cache file
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    private static List<Entry> readCache(File file)
+            throws IOException {
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (input.readInt() != ClassScanner.CACHE_MAGIC)
+                throw new IOException("Invalid cache file");
+            int count = input.readInt();
+            List<Entry> entries = new ArrayList<>(count);
+            for (int loop = 0; loop < count; loop++) {
+                Entry entry = new Entry();
+                entry.name = input.readUTF();
+                entry.superclass = input.readBoolean() ? input.readUTF() : null;
+                entry.annotations = ClassScanner.readNames(input);
+                entry.methods = new Member[input.readInt()];
+                for (int index = 0; index < entry.methods.length; index++) {
+                    Member member = new Member();
+                    member.source = entry.name;
+                    member.name = input.readUTF();
+                    member.descriptor = input.readUTF();
+                    member.annotations = ClassScanner.readNames(input);
+                    entry.methods[index] = member;
+                }
+                entries.add(entry);
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * Reads a list of names of a cache file.
+     * @param  input input stream
+     * @return the read names
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    private static String[] readNames(DataInputStream input)
+            throws IOException {
+
+        String[] names = new String[input.readInt()];
+        for (int loop = 0; loop < names.length; loop++)
+            names[loop] = input.readUTF();
+        return names;
+    }
+
+    /**
+     * Writes the entries to a cache file. The file is written as temporary
+     * file and then moved, so parallel scans do not read incomplete files.
+     * @param  file    cache file
+     * @param  entries entries
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    private static void writeCache(File file, List<Entry> entries)
+            throws IOException {
+
+        Path temp = Files.createTempFile(file.getParentFile().toPath(), file.getName(), ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                output.writeInt(ClassScanner.CACHE_MAGIC);
+                output.writeInt(entries.size());
+                for (Entry entry : entries) {
+                    output.writeUTF(entry.name);
+                    output.writeBoolean(entry.superclass != null);
+                    if (entry.superclass != null)
+                        output.writeUTF(entry.superclass);
+                    ClassScanner.writeNames(output, entry.annotations);
+                    output.writeInt(entry.methods.length);
+                    for (Member member : entry.methods) {
+                        output.writeUTF(member.name);
+                        output.writeUTF(member.descriptor);
+                        ClassScanner.writeNames(output, member.annotations);
+                    }
+                }
+            }
+            try {Files.move(temp, file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Writes a list of names to a cache file.
+     * @param  output output stream
+     * @param  names  names
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    private static void writeNames(DataOutputStream output, String[] names)
+            throws IOException {
+
+        output.writeInt(names.length);
+        for (String name : names)
+            output.writeUTF(name);
+    }
+
+    /**
+     * Parses a class file.
+     * @param  data bytes of the class file
+     * @return the entry of the class, {@code null} for faulty class files and
+     *     modules
+     */
+    private static Entry parse(byte[] data) {
+
+        try {return new ClassReader(data).read();
+        } catch (RuntimeException exception) {
+            return null;
+        }
+    }
+
+    /** Internal reader of the relevant parts of class files. */
+    private static class ClassReader {
+
+        /** data of the class file */
+        private final ByteBuffer buffer;
+
+        /** offsets of the entries of the constant pool */
+        private int[] offsets;
+
+        /** cache of the decoded UTF8 entries of the constant pool */
+        private String[] strings;
+
+        /**
+         * Constructor, creates a new ClassReader object.
+         * @param data data of the class file
+         */
+        private ClassReader(byte[] data) {
+            this.buffer = ByteBuffer.wrap(data);
+        }
+
+        /**
+         * Reads the class file.
+         * @return the entry of the class, {@code null} for modules
+         */
+        private Entry read() {
+
+            if (this.buffer.getInt() != ClassScanner.CLASS_MAGIC)
+                throw new IllegalArgumentException("Invalid class file");
+            this.buffer.getShort();
+            this.buffer.getShort();
+
+            int count = this.buffer.getShort() & 0xFFFF;
+            this.offsets = new int[count];
+            this.strings = new String[count];
+            for (int loop = 1; loop < count; loop++) {
+                this.offsets[loop] = this.buffer.position();
+                int tag = this.buffer.get() & 0xFF;
+                switch (tag) {
+                    case 1:
+                        this.skip(this.buffer.getShort() & 0xFFFF);
+                        break;
+                    case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18:
+                        this.skip(4);
+                        break;
+                    case 5: case 6:
+                        this.skip(8);
+                        loop++;
+                        break;
+                    case 7: case 8: case 16: case 19: case 20:
+                        this.skip(2);
+                        break;
+                    case 15:
+                        this.skip(3);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Invalid constant pool tag " + tag);
+                }
+            }
+
+            int access = this.buffer.getShort() & 0xFFFF;
+            if ((access & 0x8000) != 0)
+                return null;
+
+            Entry entry = new Entry();
+            entry.name = this.getClassName(this.buffer.getShort() & 0xFFFF);
+            int superclass = this.buffer.getShort() & 0xFFFF;
+            entry.superclass = superclass != 0 ? this.getClassName(superclass) : null;
+            this.skip((this.buffer.getShort() & 0xFFFF) *2);
+
+            for (int fields = this.buffer.getShort() & 0xFFFF; fields > 0; fields--) {
+                this.skip(6);
+                this.readAnnotations();
+            }
+
+            List<Member> members = new ArrayList<>();
+            for (int methods = this.buffer.getShort() & 0xFFFF; methods > 0; methods--) {
+                this.skip(2);
+                String name = this.getString(this.buffer.getShort() & 0xFFFF);
+                String descriptor = this.getString(this.buffer.getShort() & 0xFFFF);
+                String[] annotations = this.readAnnotations();
+                if (annotations.length <= 0)
+                    continue;
+                Member member = new Member();
+                member.source      = entry.name;
+                member.name        = name;
+                member.descriptor  = descriptor;
+                member.annotations = annotations;
+                members.add(member);
+            }
+            entry.methods = members.toArray(new Member[0]);
+            entry.annotations = this.readAnnotations();
+            return entry;
+        }
+
+        /**
+         * Skips a number of bytes.
+         * @param size number of bytes
+         */
+        private void skip(int size) {
+            this.buffer.position(this.buffer.position() +size);
+        }
+
+        /**
+         * Returns a UTF8 entry of the constant pool.
+         * @param  index index of the entry
+         * @return the decoded string
+         */
+        private String getString(int index) {
+
+            if (this.strings[index] != null)
+                return this.strings[index];
+            int offset = this.offsets[index];
+            if (this.buffer.get(offset) != 1)
+                throw new IllegalArgumentException("Invalid constant pool entry");
+            int length = this.buffer.getShort(offset +1) & 0xFFFF;
+            char[] chars = new char[length];
+            int count = 0;
+            // modified UTF-8 of the class file format
+            for (int loop = offset +3; loop < offset +3 +length;) {
+                int code = this.buffer.get(loop++) & 0xFF;
+                if (code < 0x80)
+                    chars[count++] = (char)code;
+                else if ((code & 0xE0) == 0xC0)
+                    chars[count++] = (char)(((code & 0x1F) << 6) | (this.buffer.get(loop++) & 0x3F));
+                else chars[count++] = (char)(((code & 0x0F) << 12) | ((this.buffer.get(loop++) & 0x3F) << 6)
+                        | (this.buffer.get(loop++) & 0x3F));
+            }
+            this.strings[index] = new String(chars, 0, count);
+            return this.strings[index];
+        }
+
+        /**
+         * Returns the binary name of a class entry of the constant pool.
+         * @param  index index of the entry
+         * @return the binary name of the class
+         */
+        private String getClassName(int index) {
+
+            int offset = this.offsets[index];
+            if (this.buffer.get(offset) != 7)
+                throw new IllegalArgumentException("Invalid constant pool entry");
+            return this.getString(this.buffer.getShort(offset +1) & 0xFFFF).replace('/', '.');
+        }
+
+        /**
+         * Reads the attributes at the current position and returns the types
+         * of the runtime visible annotations.
+         * @return the binary names of the types of the annotations
+         */
+        private String[] readAnnotations() {
+
+            List<String> annotations = new ArrayList<>();
+            for (int attributes = this.buffer.getShort() & 0xFFFF; attributes > 0; attributes--) {
+                String name = this.getString(this.buffer.getShort() & 0xFFFF);
+                int length = this.buffer.getInt();
+                int end = this.buffer.position() +length;
+                if (ClassScanner.RUNTIME_VISIBLE_ANNOTATIONS.equals(name))
+                    for (int count = this.buffer.getShort() & 0xFFFF; count > 0; count--)
+                        annotations.add(this.readAnnotation());
+                this.buffer.position(end);
+            }
+            return annotations.toArray(new String[0]);
+        }
+
+        /**
+         * Reads an annotation and returns the type.
+         * @return the binary name of the type of the annotation
+         */
+        private String readAnnotation() {
+
+            String type = this.getString(this.buffer.getShort() & 0xFFFF);
+            for (int pairs = this.buffer.getShort() & 0xFFFF; pairs > 0; pairs--) {
+                this.skip(2);
+                this.skipElementValue();
+            }
+            if (type.startsWith("L")
+                    && type.endsWith(";"))
+                type = type.substring(1, type.length() -1);
+            return type.replace('/', '.');
+        }
+
+        /** Skips an element value of an annotation. */
+        private void skipElementValue() {
+
+            int tag = this.buffer.get() & 0xFF;
+            switch (tag) {
+                case 'e':
+                    this.skip(4);
+                    break;
+                case '@':
+                    this.readAnnotation();
+                    break;
+                case '[':
+                    for (int values = this.buffer.getShort() & 0xFFFF; values > 0; values--)
+                        this.skipElementValue();
+                    break;
+                default:
+                    this.skip(2);
+            }
+        }
+    }
+
+    /** Entry of a scanned class. */
+    public static class Entry {
+
+        /** binary name of the class */
+        private String name;
+
+        /** binary name of the superclass */
+        private String superclass;
+
+        /** binary names of the declared annotations */
+        private String[] annotations;
+
+        /** annotated methods */
+        private Member[] methods;
+
+        /** Constructor, creates a new Entry object. */
+        private Entry() {
+            return;
+        }
+
+        /**
+         * Returns the binary name of the class.
+         * @return the binary name of the class
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Returns the binary name of the superclass.
+         * @return the binary name of the superclass, {@code null} without
+         */
+        public String getSuperclass() {
+            return this.superclass;
+        }
+
+        /**
+         * Returns the binary names of the declared runtime visible
+         * annotations of the class.
+         * @return the binary names of the annotations
+         */
+        public String[] getAnnotations() {
+            return this.annotations.clone();
+        }
+
+        /**
+         * Returns the methods of the class with runtime visible annotations.
+         * @return the annotated methods
+         */
+        public Member[] getMethods() {
+            return this.methods.clone();
+        }
+
+        /**
+         * Loads the class without initialization.
+         * @param  loader class loader, {@code null} for the class loader of
+         *     the current thread
+         * @return the loaded class
+         * @throws ClassNotFoundException
+         *     If the class cannot be loaded.
+         */
+        public Class<?> load(ClassLoader loader)
+                throws ClassNotFoundException {
+            if (loader == null)
+                loader = Thread.currentThread().getContextClassLoader();
+            return Class.forName(this.name, false, loader);
+        }
+
+        @Override
+        public String toString() {
+            return this.name;
+        }
+    }
+
+    /** Entry of a scanned method with annotations. */
+    public static class Member {
+
+        /** binary name of the declaring class */
+        private String source;
+
+        /** name of the method */
+        private String name;
+
+        /** descriptor of the method */
+        private String descriptor;
+
+        /** binary names of the declared annotations */
+        private String[] annotations;
+
+        /** Constructor, creates a new Member object. */
+        private Member() {
+            return;
+        }
+
+        /**
+         * Returns the binary name of the declaring class.
+         * @return the binary name of the declaring class
+         */
+        public String getSource() {
+            return this.source;
+        }
+
+        /**
+         * Returns the name of the method.
+         * @return the name of the method
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Returns the descriptor of the method, e.g. {@code ()V}.
+         * @return the descriptor of the method
+         */
+        public String getDescriptor() {
+            return this.descriptor;
+        }
+
+        /**
+         * Returns the binary names of the declared runtime visible
+         * annotations of the method.
+         * @return the binary names of the annotations
+         */
+        public String[] getAnnotations() {
+            return this.annotations.clone();
+        }
+
+        @Override
+        public String toString() {
+            return this.source + "#" + this.name + this.descriptor;
+        }
+    }
+
+    /** Index of the scanned classes and methods. */
+    public static class Index {
+
+        /** entries by the binary name of the class */
+        private final Map<String, Entry> entries;
+
+        /** classes by the annotation */
+        private final Map<String, List<Entry>> classes;
+
+        /** methods by the annotation */
+        private final Map<String, List<Member>> methods;
+
+        /** direct subclasses by the binary name of the class */
+        private final Map<String, List<Entry>> subclasses;
+
+        /**
+         * Constructor, creates a new Index object.
+         * @param entries entries by the binary name of the class
+         */
+        private Index(Map<String, Entry> entries) {
+
+            this.entries    = entries;
+            this.classes    = new HashMap<>();
+            this.methods    = new HashMap<>();
+            this.subclasses = new HashMap<>();
+
+            for (Entry entry : entries.values()) {
+                for (String annotation : entry.annotations)
+                    this.classes.computeIfAbsent(annotation, key -> new ArrayList<>()).add(entry);
+                for (Member member : entry.methods)
+                    for (String annotation : member.annotations)
+                        this.methods.computeIfAbsent(annotation, key -> new ArrayList<>()).add(member);
+                if (entry.superclass != null)
+                    this.subclasses.computeIfAbsent(entry.superclass, key -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        /**
+         * Returns the number of scanned classes.
+         * @return the number of scanned classes
+         */
+        public int size() {
+            return this.entries.size();
+        }
+
+        /**
+         * Returns all scanned classes.
+         * @return all scanned classes
+         */
+        public Entry[] getEntries() {
+            return this.entries.values().toArray(new Entry[0]);
+        }
+
+        /**
+         * Returns a scanned class.
+         * @param  name binary name of the class
+         * @return the scanned class, otherwise {@code null}
+         */
+        public Entry getEntry(String name) {
+            return this.entries.get(name);
+        }
+
+        /**
+         * Returns the classes with a declared annotation.
+         * @param  annotation binary name of the annotation
+         * @return the classes with the annotation
+         */
+        public Entry[] getAnnotatedClasses(String annotation) {
+            return this.classes.getOrDefault(annotation, new ArrayList<>()).toArray(new Entry[0]);
+        }
+
+        /**
+         * Returns the classes with a declared annotation.
+         * @param  annotation annotation
+         * @return the classes with the annotation
+         */
+        public Entry[] getAnnotatedClasses(Class<? extends Annotation> annotation) {
+            Objects.requireNonNull(annotation, "Type of annotation required");
+            return this.getAnnotatedClasses(annotation.getName());
+        }
+
+        /**
+         * Returns the methods with a declared annotation.
+         * @param  annotation binary name of the annotation
+         * @return the methods with the annotation
+         */
+        public Member[] getAnnotatedMethods(String annotation) {
+            return this.methods.getOrDefault(annotation, new ArrayList<>()).toArray(new Member[0]);
+        }
+
+        /**
+         * Returns the methods with a declared annotation.
+         * @param  annotation annotation
+         * @return the methods with the annotation
+         */
+        public Member[] getAnnotatedMethods(Class<? extends Annotation> annotation) {
+            Objects.requireNonNull(annotation, "Type of annotation required");
+            return this.getAnnotatedMethods(annotation.getName());
+        }
+
+        /**
+         * Returns the scanned direct and indirect subclasses of a class.
+         * @param  name binary name of the class
+         * @return the subclasses
+         */
+        public Entry[] getSubclasses(String name) {
+
+            List<Entry> subclasses = new ArrayList<>();
+            List<String> queue = new ArrayList<>(Arrays.asList(name));
+            for (int loop = 0; loop < queue.size(); loop++)
+                for (Entry entry : this.subclasses.getOrDefault(queue.get(loop), new ArrayList<>())) {
+                    subclasses.add(entry);
+                    queue.add(entry.name);
+                }
+            return subclasses.toArray(new Entry[0]);
+        }
+
+        /**
+         * Returns the scanned direct and indirect subclasses of a class.
+         * @param  source class
+         * @return the subclasses
+         */
+        public Entry[] getSubclasses(Class<?> source) {
+            Objects.requireNonNull(source, "Class required");
+            return this.getSubclasses(source.getName());
+        }
+    }
+}
@@ -4,7 +4,7 @@
  * Diese Software unterliegt der Version 2 der GNU General Public License.
  *
  * Seanox Test SDK
- * Copyright (C) 2017 Seanox Software Solutions
+ * Copyright (C) 2026 Seanox Software Solutions
  *
  * This program is free software; you can redistribute it and/or modify it
  * under the terms of version 2 of the GNU General Public License as published
@@ -21,20 +21,78 @@
  */
 package com.seanox.test.utils;
 
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Checksum;
 
 /**
  * Codec utilities for encoding and decoding.<br>
  * <br>
- * Codec 1.0 20171212<br>
- * Copyright (C) 2017 Seanox Software Solutions<br>
+ * The hexadecimal encoding and decoding is based on lookup tables and writes
+ * directly into arrays. For large data, output streams are available which
+ * encode the data while writing.<br>
+ * <br>
+ * Message digests (e.g. MD5, SHA-256) and checksums (e.g. CRC32C) are
+ * computed incrementally for bytes, data streams, channels and files, the
+ * message digests and the buffers for data streams, channels and files are
+ * reused per thread.<br>
+ * <br>
+ * Codec 1.2 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
  * All rights reserved.
  *
  * @author  Seanox Software Solutions
- * @version 1.0 20171212
+ * @version 1.2 20261019
  */
 public class Codec {
     
+    /** hexadecimal digits per byte (two chars per byte value) */
+    private static final char[] HEX_ENCODE;
+
+    /** values of the hexadecimal digits, -1 for invalid chars */
+    private static final byte[] HEX_DECODE;
+
+    static {
+        
+        char[] digits = "0123456789abcdef".toCharArray();
+        HEX_ENCODE = new char[512];
+        for (int loop = 0; loop < 256; loop++) {
+            HEX_ENCODE[loop *2]    = digits[loop >> 4];
+            HEX_ENCODE[loop *2 +1] = digits[loop & 0x0F];
+        }
+        
+        HEX_DECODE = new byte[128];
+        Arrays.fill(HEX_DECODE, (byte)-1);
+        for (int loop = 0; loop < 16; loop++) {
+            HEX_DECODE[digits[loop]] = (byte)loop;
+            HEX_DECODE[Character.toUpperCase(digits[loop])] = (byte)loop;
+        }
+    }
+    
+    /** message digests per algorithm and thread, the creation is relatively expensive */
+    private static final Map<String, ThreadLocal<MessageDigest>> DIGESTS = new ConcurrentHashMap<>();
+
+    /** size of the buffers for data streams, channels and files */
+    private static final int BUFFER_SIZE = 65536;
+
+    /** buffers for data streams, channels and files per thread */
+    private static final ThreadLocal<ByteBuffer> BUFFERS = ThreadLocal.withInitial(() -> ByteBuffer.allocate(Codec.BUFFER_SIZE));
+
     /** Constructor, creates a new Codec object. */
     private Codec() {
     }    
@@ -63,6 +121,19 @@ public class Codec {
         return new String(Base64.getEncoder().encode(bytes));
     }
     
+    /**
+     * Creates an output stream that encodes the written data in Base64 to
+     * the output stream. The output stream must be closed so that the last
+     * bytes are encoded, this also closes the wrapped output stream.
+     * @param  output output stream for the encoded data
+     * @return the encoding output stream
+     */
+    public static OutputStream encodeBase64(OutputStream output) {
+        
+        Objects.requireNonNull(output, "Output stream required");
+        return Base64.getEncoder().wrap(output);
+    }
+    
     /**
      * Encodes a text hexadecimal.
      * @param  text text
@@ -84,9 +155,573 @@ public class Codec {
         
         if (bytes == null)
             return null;
-        StringBuilder builder = new StringBuilder(bytes.length *2);
-        for (byte digit : bytes)
-            builder.append(String.format("%02x", Byte.valueOf(digit)));
-        return builder.toString();
+        byte[] digits = new byte[bytes.length *2];
+        Codec.encodeHex(bytes, 0, bytes.length, digits, 0);
+        return new String(digits, StandardCharsets.ISO_8859_1);
+    }
+    
+    /**
+     * Encodes bytes in hexadecimal into a char array.
+     * @param  bytes    bytes
+     * @param  offset   offset in the bytes
+     * @param  length   number of bytes
+     * @param  target   target with space for {@code length *2} chars
+     * @param  position position in the target
+     * @throws IndexOutOfBoundsException
+     *     If the ranges exceed the arrays.
+     */    
+    public static void encodeHex(byte[] bytes, int offset, int length, char[] target, int position) {
+        
+        Codec.checkRange(bytes.length, offset, length);
+        Codec.checkRange(target.length, position, length *2);
+        for (int end = offset +length; offset < end; offset++) {
+            int index = (bytes[offset] & 0xFF) *2;
+            target[position++] = Codec.HEX_ENCODE[index];
+            target[position++] = Codec.HEX_ENCODE[index +1];
+        }
+    }
+    
+    /**
+     * Encodes bytes in hexadecimal as ASCII into a byte array.
+     * @param  bytes    bytes
+     * @param  offset   offset in the bytes
+     * @param  length   number of bytes
+     * @param  target   target with space for {@code length *2} bytes
+     * @param  position position in the target
+     * @throws IndexOutOfBoundsException
+     *     If the ranges exceed the arrays.
+     */    
+    public static void encodeHex(byte[] bytes, int offset, int length, byte[] target, int position) {
+        
+        Codec.checkRange(bytes.length, offset, length);
+        Codec.checkRange(target.length, position, length *2);
+        for (int end = offset +length; offset < end; offset++) {
+            int index = (bytes[offset] & 0xFF) *2;
+            target[position++] = (byte)Codec.HEX_ENCODE[index];
+            target[position++] = (byte)Codec.HEX_ENCODE[index +1];
+        }
+    }
+    
+    /**
+     * Creates an output stream that encodes the written data hexadecimal to
+     * the output stream. Closing also closes the wrapped output stream.
+     * @param  output output stream for the encoded data
+     * @return the encoding output stream
+     */
+    public static OutputStream encodeHex(OutputStream output) {
+        
+        Objects.requireNonNull(output, "Output stream required");
+        return new HexOutputStream(output);
+    }
+    
+    /**
+     * Decodes a hexadecimal text (upper and lower case).
+     * @param  text hexadecimal text
+     * @return the decoded bytes
+     * @throws IllegalArgumentException
+     *     In case of an odd length or invalid digits.
+     */    
+    public static byte[] decodeHex(String text) {
+        
+        if (text == null)
+            return null;
+        if (text.length() % 2 != 0)
+            throw new IllegalArgumentException("Invalid hex length");
+        byte[] bytes = new byte[text.length() /2];
+        for (int loop = 0, index = 0; loop < bytes.length; loop++)
+            bytes[loop] = (byte)((Codec.decodeHexDigit(text.charAt(index++)) << 4)
+                    | Codec.decodeHexDigit(text.charAt(index++)));
+        return bytes;
+    }
+    
+    /**
+     * Decodes hexadecimal chars (upper and lower case) into a byte array.
+     * @param  chars    hexadecimal chars
+     * @param  offset   offset in the chars
+     * @param  length   number of chars (even)
+     * @param  target   target with space for {@code length /2} bytes
+     * @param  position position in the target
+     * @throws IllegalArgumentException
+     *     In case of an odd length or invalid digits.
+     * @throws IndexOutOfBoundsException
+     *     If the ranges exceed the arrays.
+     */    
+    public static void decodeHex(char[] chars, int offset, int length, byte[] target, int position) {
+        
+        if (length % 2 != 0)
+            throw new IllegalArgumentException("Invalid hex length");
+        Codec.checkRange(chars.length, offset, length);
+        Codec.checkRange(target.length, position, length /2);
+        for (int end = offset +length; offset < end;)
+            target[position++] = (byte)((Codec.decodeHexDigit(chars[offset++]) << 4)
+                    | Codec.decodeHexDigit(chars[offset++]));
+    }
+    
+    /**
+     * Decodes a hexadecimal digit.
+     * @param  digit hexadecimal digit
+     * @return the value of the digit
+     * @throws IllegalArgumentException
+     *     In case of an invalid digit.
+     */
+    private static int decodeHexDigit(char digit) {
+        
+        int value = digit < 128 ? Codec.HEX_DECODE[digit] : -1;
+        if (value < 0)
+            throw new IllegalArgumentException("Invalid hex digit: " + digit);
+        return value;
+    }
+    
+    /**
+     * Checks a range of an array.
+     * @param  size   size of the array
+     * @param  offset offset of the range
+     * @param  length length of the range
+     * @throws IndexOutOfBoundsException
+     *     If the range exceeds the array.
+     */
+    private static void checkRange(int size, int offset, int length) {
+        if (offset < 0 || length < 0 || length > size -offset)
+            throw new IndexOutOfBoundsException();
+    }
+    
+    /**
+     * Returns the reset message digest of an algorithm for the current
+     * thread.
+     * @param  algorithm algorithm (e.g. MD5, SHA-256)
+     * @return the message digest
+     * @throws IllegalArgumentException
+     *     If the algorithm is not supported.
+     */
+    private static MessageDigest getDigest(String algorithm) {
+
+        Objects.requireNonNull(algorithm, "Algorithm required");
+        ThreadLocal<MessageDigest> digests = Codec.DIGESTS.get(algorithm);
+        if (digests == null) {
+            //only supported algorithms are cached
+            Codec.createDigest(algorithm);
+            digests = Codec.DIGESTS.computeIfAbsent(algorithm, key ->
+                    ThreadLocal.withInitial(() -> Codec.createDigest(key)));
+        }
+        MessageDigest digest = digests.get();
+        digest.reset();
+        return digest;
+    }
+
+    /**
+     * Creates a new message digest of an algorithm.
+     * @param  algorithm algorithm (e.g. MD5, SHA-256)
+     * @return the created message digest
+     * @throws IllegalArgumentException
+     *     If the algorithm is not supported.
+     */
+    private static MessageDigest createDigest(String algorithm) {
+
+        try {return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalArgumentException("Invalid algorithm: " + algorithm, exception);
+        }
+    }
+
+    /**
+     * Computes the message digest of bytes.
+     * @param  algorithm algorithm (e.g. MD5, SHA-256)
+     * @param  bytes     bytes
+     * @return the message digest
+     * @throws IllegalArgumentException
+     *     If the algorithm is not supported.
+     */
+    public static byte[] digest(String algorithm, byte[] bytes) {
+
+        Objects.requireNonNull(bytes, "Bytes required");
+        return Codec.getDigest(algorithm).digest(bytes);
+    }
+
+    /**
+     * Computes the message digest of a data stream incrementally until the
+     * end of the data stream. The data stream is not closed.
+     * @param  algorithm algorithm (e.g. MD5, SHA-256)
+     * @param  input     input stream
+     * @return the message digest
+     * @throws IOException
+     *     In case of faulty data access.
+     * @throws IllegalArgumentException
+     *     If the algorithm is not supported.
+     */
+    public static byte[] digest(String algorithm, InputStream input)
+            throws IOException {
+
+        Objects.requireNonNull(input, "Input stream required");
+        MessageDigest digest = Codec.getDigest(algorithm);
+        byte[] buffer = Codec.BUFFERS.get().array();
+        for (int length; (length = input.read(buffer)) >= 0;)
+            digest.update(buffer, 0, length);
+        return digest.digest();
+    }
+
+    /**
+     * Computes the message digest of a channel incrementally until the end
+     * of the channel. The channel is not closed.
+     * @param  algorithm algorithm (e.g. MD5, SHA-256)
+     * @param  channel   channel
+     * @return the message digest
+     * @throws IOException
+     *     In case of faulty data access.
+     * @throws IllegalArgumentException
+     *     If the algorithm is not supported.
+     */
+    public static byte[] digest(String algorithm, ReadableByteChannel channel)
+            throws IOException {
+
+        Objects.requireNonNull(channel, "Channel required");
+        MessageDigest digest = Codec.getDigest(algorithm);
+        ByteBuffer buffer = Codec.BUFFERS.get();
+        buffer.clear();
+        while (channel.read(buffer) >= 0) {
+            buffer.flip();
+            digest.update(buffer);
+            buffer.clear();
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Computes the message digest of a file. The file is read with a buffer
+     * and closed before the method returns.
+     * @param  algorithm algorithm (e.g. MD5, SHA-256)
+     * @param  file      file
+     * @return the message digest
+     * @throws IOException
+     *     In case of faulty data access.
+     * @throws IllegalArgumentException
+     *     If the algorithm is not supported.
+     */
+    public static byte[] digest(String algorithm, File file)
+            throws IOException {
+
+        Objects.requireNonNull(file, "File required");
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return Codec.digest(algorithm, channel);
+        }
+    }
+
+    /**
+     * Computes the MD5 hash of bytes.
+     * @param  bytes bytes
+     * @return the MD5 hash
+     */
+    public static byte[] md5(byte[] bytes) {
+        return Codec.digest("MD5", bytes);
+    }
+
+    /**
+     * Computes the MD5 hash of a data stream until the end of the data stream.
+     * @param  input input stream
+     * @return the MD5 hash
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public static byte[] md5(InputStream input)
+            throws IOException {
+        return Codec.digest("MD5", input);
+    }
+
+    /**
+     * Computes the MD5 hash of a channel until the end of the channel.
+     * @param  channel channel
+     * @return the MD5 hash
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public static byte[] md5(ReadableByteChannel channel)
+            throws IOException {
+        return Codec.digest("MD5", channel);
+    }
+
+    /**
+     * Computes the MD5 hash of a file.
+     * @param  file file
+     * @return the MD5 hash
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public static byte[] md5(File file)
+            throws IOException {
+        return Codec.digest("MD5", file);
+    }
+
+    /**
+     * Computes the SHA-256 hash of bytes.
+     * @param  bytes bytes
+     * @return the SHA-256 hash
+     */
+    public static byte[] sha256(byte[] bytes) {
+        return Codec.digest("SHA-256", bytes);
+    }
+
+    /**
+     * Computes the SHA-256 hash of a data stream until the end of the data
+     * stream.
+     * @param  input input stream
+     * @return the SHA-256 hash
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public static byte[] sha256(InputStream input)
+            throws IOException {
+        return Codec.digest("SHA-256", input);
+    }
+
+    /**
+     * Computes the SHA-256 hash of a channel until the end of the channel.
+     * @param  channel channel
+     * @return the SHA-256 hash
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public static byte[] sha256(ReadableByteChannel channel)
+            throws IOException {
+        return Codec.digest("SHA-256", channel);
+    }
+
+    /**
+     * Computes the SHA-256 hash of a file.
+     * @param  file file
+     * @return the SHA-256 hash
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public static byte[] sha256(File file)
+            throws IOException {
+        return Codec.digest("SHA-256", file);
+    }
+
+    /**
+     * Computes the CRC32C checksum of bytes.
+     * @param  bytes bytes
+     * @return the CRC32C checksum
+     */
+    public static long crc32c(byte[] bytes) {
+
+        Objects.requireNonNull(bytes, "Bytes required");
+        CRC32C checksum = new CRC32C();
+        checksum.update(bytes, 0, bytes.length);
+        return checksum.getValue();
+    }
+
+    /**
+     * Computes the CRC32C checksum of a data stream until the end of the
+     * data stream. The data stream is not closed.
+     * @param  input input stream
+     * @return the CRC32C checksum
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public static long crc32c(InputStream input)
+            throws IOException {
+
+        Objects.requireNonNull(input, "Input stream required");
+        CRC32C checksum = new CRC32C();
+        byte[] buffer = Codec.BUFFERS.get().array();
+        for (int length; (length = input.read(buffer)) >= 0;)
+            checksum.update(buffer, 0, length);
+        return checksum.getValue();
+    }
+
+    /**
+     * Computes the CRC32C checksum of a channel until the end of the channel.
+     * The channel is not closed.
+     * @param  channel channel
+     * @return the CRC32C checksum
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public static long crc32c(ReadableByteChannel channel)
+            throws IOException {
+
+        Objects.requireNonNull(channel, "Channel required");
+        CRC32C checksum = new CRC32C();
+        ByteBuffer buffer = Codec.BUFFERS.get();
+        buffer.clear();
+        while (channel.read(buffer) >= 0) {
+            buffer.flip();
+            checksum.update(buffer);
+            buffer.clear();
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Computes the CRC32C checksum of a file. The file is read with a buffer
+     * and closed before the method returns.
+     * @param  file file
+     * @return the CRC32C checksum
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public static long crc32c(File file)
+            throws IOException {
+
+        Objects.requireNonNull(file, "File required");
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return Codec.crc32c(channel);
+        }
+    }
+
+    /**
+     * Checksum CRC32C (Castagnoli, polynomial 0x1EDC6F41) based on lookup
+     * tables, which processes eight bytes per step (slicing-by-8).
+     */
+    public static class CRC32C implements Checksum {
+
+        /** lookup tables of the reflected polynomial */
+        private static final int[][] TABLES = new int[8][256];
+
+        static {
+            for (int loop = 0; loop < 256; loop++) {
+                int crc = loop;
+                for (int bit = 0; bit < 8; bit++)
+                    crc = (crc >>> 1) ^ ((crc & 1) != 0 ? 0x82F63B78 : 0);
+                TABLES[0][loop] = crc;
+            }
+            for (int loop = 0; loop < 256; loop++)
+                for (int table = 1; table < 8; table++)
+                    TABLES[table][loop] = (TABLES[table -1][loop] >>> 8) ^ TABLES[0][TABLES[table -1][loop] & 0xFF];
+        }
+
+        /** current (inverted) checksum */
+        private int crc;
+
+        /** Constructor, creates a new CRC32C object. */
+        public CRC32C() {
+            this.reset();
+        }
+
+        @Override
+        public void update(int data) {
+            this.crc = (this.crc >>> 8) ^ CRC32C.TABLES[0][(this.crc ^ data) & 0xFF];
+        }
+
+        /**
+         * Updates the checksum with bytes.
+         * @param bytes bytes
+         */
+        public void update(byte[] bytes) {
+            this.update(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void update(byte[] bytes, int offset, int length) {
+
+            Codec.checkRange(bytes.length, offset, length);
+            int[][] tables = CRC32C.TABLES;
+            int crc = this.crc;
+            for (; length >= 8; offset += 8, length -= 8) {
+                int low = crc ^ ((bytes[offset] & 0xFF) | (bytes[offset +1] & 0xFF) << 8
+                        | (bytes[offset +2] & 0xFF) << 16 | (bytes[offset +3] & 0xFF) << 24);
+                crc = tables[7][low & 0xFF] ^ tables[6][(low >>> 8) & 0xFF]
+                        ^ tables[5][(low >>> 16) & 0xFF] ^ tables[4][low >>> 24]
+                        ^ tables[3][bytes[offset +4] & 0xFF] ^ tables[2][bytes[offset +5] & 0xFF]
+                        ^ tables[1][bytes[offset +6] & 0xFF] ^ tables[0][bytes[offset +7] & 0xFF];
+            }
+            for (; length > 0; offset++, length--)
+                crc = (crc >>> 8) ^ tables[0][(crc ^ bytes[offset]) & 0xFF];
+            this.crc = crc;
+        }
+
+        /**
+         * Updates the checksum with the remaining bytes of a buffer.
+         * The position of the buffer is moved to the limit.
+         * @param buffer buffer
+         */
+        public void update(ByteBuffer buffer) {
+
+            if (buffer.hasArray()) {
+                this.update(buffer.array(), buffer.arrayOffset() +buffer.position(), buffer.remaining());
+                buffer.position(buffer.limit());
+                return;
+            }
+            byte[] bytes = new byte[Math.min(buffer.remaining(), Codec.BUFFER_SIZE)];
+            while (buffer.hasRemaining()) {
+                int length = Math.min(buffer.remaining(), bytes.length);
+                buffer.get(bytes, 0, length);
+                this.update(bytes, 0, length);
+            }
+        }
+
+        @Override
+        public long getValue() {
+            return ~this.crc & 0xFFFFFFFFL;
+        }
+
+        @Override
+        public void reset() {
+            this.crc = 0xFFFFFFFF;
+        }
+    }
+
+    /** Output stream that encodes the written data hexadecimal. */
+    public static class HexOutputStream extends FilterOutputStream {
+        
+        /** buffer of the encoded data */
+        private final byte[] buffer;
+        
+        /** number of bytes in the buffer */
+        private int count;
+        
+        /**
+         * Constructor, creates a new HexOutputStream object.
+         * @param output output stream for the encoded data
+         */
+        public HexOutputStream(OutputStream output) {
+            
+            super(Objects.requireNonNull(output, "Output stream required"));
+            this.buffer = new byte[8192];
+        }
+        
+        @Override
+        public void write(int data) throws IOException {
+            
+            if (this.count +2 > this.buffer.length)
+                this.flushBuffer();
+            int index = (data & 0xFF) *2;
+            this.buffer[this.count++] = (byte)Codec.HEX_ENCODE[index];
+            this.buffer[this.count++] = (byte)Codec.HEX_ENCODE[index +1];
+        }
+        
+        @Override
+        public void write(byte[] data, int offset, int length) throws IOException {
+            
+            Codec.checkRange(data.length, offset, length);
+            while (length > 0) {
+                if (this.count +2 > this.buffer.length)
+                    this.flushBuffer();
+                int size = Math.min(length, (this.buffer.length -this.count) /2);
+                Codec.encodeHex(data, offset, size, this.buffer, this.count);
+                this.count += size *2;
+                offset += size;
+                length -= size;
+            }
+        }
+        
+        /**
+         * Writes the buffer to the output stream.
+         * @throws IOException
+         *     In case of faulty data access.
+         */
+        private void flushBuffer() throws IOException {
+            
+            if (this.count <= 0)
+                return;
+            this.out.write(this.buffer, 0, this.count);
+            this.count = 0;
+        }
+        
+        @Override
+        public void flush() throws IOException {
+            
+            this.flushBuffer();
+            this.out.flush();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,919 @@
+/**
+ * LIZENZBEDINGUNGEN - Seanox Software Solutions ist ein Open-Source-Projekt,
+ * im Folgenden Seanox Software Solutions oder kurz Seanox genannt.
+ * Diese Software unterliegt der Version 2 der GNU General Public License.
+ *
+ * Seanox Test SDK
+ * Copyright (C) 2026 Seanox Software Solutions
+ *
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of version 2 of the GNU General Public License as published
+ * by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.seanox.test.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Lightweight local HTTP/1.x server as stand-in for tests of
+ * {@link HttpUtils} and client-side benchmarks without external services.
+ * The server runs with NIO in a single thread and serves canned, scripted or
+ * generated responses with configurable latency, chunking and keep-alive.
+ *
+ * <h3>Example</h3>
+ * <pre>
+ * try (HttpMockServer server = HttpMockServer.create()) {
+ *     server.respond(HttpMockServer.Response.create(200)
+ *             .header("Content-Type", "text/plain")
+ *             .body(1024 *1024)
+ *             .chunked(8192)
+ *             .latency(25));
+ *     byte[] response = HttpUtils.sendRequest(server.getAddress(), "GET / HTTP/1.0\r\n\r\n");
+ *     ...
+ * }
+ * </pre>
+ * Scripted responses ({@link #script(Response...)}) are used once in the
+ * order of the script, then the responder ({@link #respond(Responder)}) is
+ * used. Without responder, the server responds with status 404.<br>
+ * <br>
+ * HttpMockServer 1.0 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
+ * All rights reserved.
+ *
+ * @author  Seanox Software Solutions
+ * @version 1.0 20261019
+ */
+public class HttpMockServer implements Closeable {
+
+    /** default maximum number of recorded requests */
+    private static final int RECORD_LIMIT = 1000;
+
+    /** maximum size of a chunk frame (hexadecimal size + CRLF) */
+    private static final int FRAME_SIZE = 10;
+
+    /** last chunk of chunked encoding */
+    private static final byte[] LAST_CHUNK = "0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+
+    /** server channel */
+    private ServerSocketChannel channel;
+
+    /** selector of all channels */
+    private Selector selector;
+
+    /** thread of the server */
+    private Thread thread;
+
+    /** responder for all requests without scripted response */
+    private volatile Responder responder;
+
+    /** scripted responses in order of use */
+    private Deque<Response> script;
+
+    /** recorded requests (header and body) in order of receipt */
+    private Deque<String> requests;
+
+    /** maximum number of recorded requests */
+    private volatile int record;
+
+    /** number of received requests */
+    private int count;
+
+    /** connections that wait for the latency of the response */
+    private List<Connection> delays;
+
+    /** option to keep connections alive */
+    private volatile boolean keepAlive;
+
+    /** indicator for: was closed */
+    private volatile boolean closed;
+
+    /** Constructor, creates a new HttpMockServer object. */
+    private HttpMockServer() {
+
+        this.script   = new ArrayDeque<>();
+        this.requests = new ArrayDeque<>();
+        this.record   = HttpMockServer.RECORD_LIMIT;
+        this.delays   = new ArrayList<>();
+    }
+
+    /**
+     * Creates and starts a new HttpMockServer on the local loopback address
+     * with a free port.
+     * @return the created and started HttpMockServer
+     * @throws IOException
+     *     If the server cannot be established.
+     */
+    public static HttpMockServer create()
+            throws IOException {
+        return HttpMockServer.create("127.0.0.1:0");
+    }
+
+    /**
+     * Creates and starts a new HttpMockServer for the address
+     * {@code <host>:<port>}. With port 0 a free port is used.
+     * @param  address address
+     * @return the created and started HttpMockServer
+     * @throws IOException
+     *     If the server cannot be established.
+     */
+    public static HttpMockServer create(String address)
+            throws IOException {
+
+        if (address == null
+                || !address.matches(Pattern.NETWORK_CONNECTION))
+            throw new IllegalArgumentException("Invalid connection string: " + address + ", expected <host>:<port>");
+
+        HttpMockServer server = new HttpMockServer();
+        server.selector = Selector.open();
+        server.channel = ServerSocketChannel.open();
+        try {
+            server.channel.bind(new InetSocketAddress(address.replaceAll(Pattern.NETWORK_CONNECTION, "$1"),
+                    Integer.parseInt(address.replaceAll(Pattern.NETWORK_CONNECTION, "$2"))), 1024);
+            server.channel.configureBlocking(false);
+            server.channel.register(server.selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException exception) {
+            server.close();
+            throw exception;
+        }
+
+        server.thread = new Thread(server::run, "HttpMockServer " + server.getAddress());
+        server.thread.setDaemon(true);
+        server.thread.start();
+
+        return server;
+    }
+
+    /**
+     * Returns the address of the server as {@code <host>:<port>}, as used by
+     * {@link HttpUtils#sendRequest(String, String)}.
+     * @return the address of the server
+     */
+    public String getAddress() {
+
+        InetSocketAddress address;
+        try {address = (InetSocketAddress)this.channel.getLocalAddress();
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+        return address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    /**
+     * Sets the responder for all requests without scripted response.
+     * @param  responder responder
+     * @return the server itself
+     */
+    public HttpMockServer respond(Responder responder) {
+
+        this.responder = responder;
+        return this;
+    }
+
+    /**
+     * Sets a canned response for all requests without scripted response.
+     * @param  response response
+     * @return the server itself
+     */
+    public HttpMockServer respond(Response response) {
+
+        Objects.requireNonNull(response, "Response required");
+        return this.respond(request -> response);
+    }
+
+    /**
+     * Adds responses to the script. Scripted responses are used once in the
+     * order of the script before the responder.
+     * @param  responses responses
+     * @return the server itself
+     */
+    public HttpMockServer script(Response... responses) {
+
+        if (responses == null)
+            return this;
+        synchronized (this.script) {
+            for (Response response : responses)
+                this.script.add(Objects.requireNonNull(response, "Response required"));
+        }
+        return this;
+    }
+
+    /**
+     * Sets the option to keep connections alive. Then the connections are
+     * kept for HTTP/1.1 requests without {@code Connection: close} and for
+     * HTTP/1.0 requests with {@code Connection: keep-alive}. Otherwise the
+     * connection is closed after the response. Default is {@code false},
+     * because {@link HttpUtils#sendRequest(String, String)} reads the
+     * response up to the end of the connection.
+     * @param  keepAlive {@code true} to keep connections alive
+     * @return the server itself
+     */
+    public HttpMockServer keepAlive(boolean keepAlive) {
+
+        this.keepAlive = keepAlive;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of recorded requests. If the limit is reached,
+     * the oldest requests are discarded. With 0, no requests are recorded,
+     * e.g. for long load runs. Default is 1000.
+     * @param  limit maximum number of recorded requests
+     * @return the server itself
+     */
+    public HttpMockServer record(int limit) {
+
+        if (limit < 0)
+            throw new IllegalArgumentException("Invalid limit");
+        synchronized (this.requests) {
+            this.record = limit;
+            while (this.requests.size() > limit)
+                this.requests.removeFirst();
+        }
+        return this;
+    }
+
+    /**
+     * Returns the recorded requests (header and body) in order of receipt.
+     * The number is limited by {@link #record(int)}.
+     * @return the recorded requests
+     */
+    public String[] getRequests() {
+        synchronized (this.requests) {
+            return this.requests.toArray(new String[0]);
+        }
+    }
+
+    /**
+     * Returns the number of received requests.
+     * @return the number of received requests
+     */
+    public int getRequestCount() {
+        synchronized (this.requests) {
+            return this.count;
+        }
+    }
+
+    @Override
+    public void close()
+            throws IOException {
+
+        this.closed = true;
+        if (this.selector != null)
+            this.selector.wakeup();
+        if (this.thread != null
+                && Thread.currentThread() != this.thread)
+            try {this.thread.join(1000);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        if (this.selector != null)
+            for (SelectionKey key : this.selector.keys())
+                try {key.channel().close();
+                } catch (IOException exception) {
+                    continue;
+                }
+        if (this.channel != null)
+            this.channel.close();
+        if (this.selector != null)
+            this.selector.close();
+    }
+
+    /** Main loop of the server. */
+    private void run() {
+
+        while (!this.closed) {
+            try {
+                long timing = System.nanoTime();
+                long timeout = 0;
+                for (Connection connection : this.delays)
+                    timeout = timeout <= 0 ? Math.max(1, connection.ready -timing)
+                            : Math.min(timeout, Math.max(1, connection.ready -timing));
+                this.selector.select(timeout <= 0 ? 0 : Math.max(1, timeout /1000000));
+                if (this.closed)
+                    break;
+
+                Iterator<SelectionKey> iterator = this.selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+                    if (!key.isValid())
+                        continue;
+                    try {
+                        if (key.isAcceptable())
+                            this.accept();
+                        else if (key.isReadable())
+                            ((Connection)key.attachment()).read();
+                        else if (key.isWritable())
+                            ((Connection)key.attachment()).write();
+                    } catch (IOException | RuntimeException exception) {
+                        if (key.attachment() instanceof Connection)
+                            ((Connection)key.attachment()).close();
+                    }
+                }
+
+                timing = System.nanoTime();
+                for (Iterator<Connection> delays = this.delays.iterator(); delays.hasNext();) {
+                    Connection connection = delays.next();
+                    if (connection.ready -timing > 0)
+                        continue;
+                    delays.remove();
+                    if (connection.key.isValid())
+                        connection.key.interestOps(SelectionKey.OP_WRITE);
+                }
+            } catch (IOException | RuntimeException exception) {
+                if (this.closed)
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Accepts all pending connections.
+     * @throws IOException
+     *     In case of faulty network access.
+     */
+    private void accept()
+            throws IOException {
+
+        for (SocketChannel channel; (channel = this.channel.accept()) != null;) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            Connection connection = new Connection(channel);
+            connection.key = channel.register(this.selector, SelectionKey.OP_READ, connection);
+        }
+    }
+
+    /**
+     * Determines the response for a request.
+     * @param  request request
+     * @return the determined response
+     */
+    private Response respond(String request) {
+
+        synchronized (this.script) {
+            if (!this.script.isEmpty())
+                return this.script.poll();
+        }
+        Responder responder = this.responder;
+        if (responder == null)
+            return Response.create(404);
+        try {
+            Response response = responder.respond(request);
+            return response != null ? response : Response.create(404);
+        } catch (Exception exception) {
+            return Response.create(500);
+        }
+    }
+
+    /** Interface to implement the creation of responses for requests. */
+    public interface Responder {
+
+        /**
+         * Creates the response for a request.
+         * @param  request request (header and body)
+         * @return the response, {@code null} responds with status 404
+         * @throws Exception
+         *     In case of errors, the server responds with status 500.
+         */
+        Response respond(String request)
+                throws Exception;
+    }
+
+    /**
+     * Response of the server.
+     * A response describes the data and is not changed by the server, so
+     * it can be used for multiple requests.
+     */
+    public static class Response {
+
+        /** status */
+        private int status;
+
+        /** message of the status */
+        private String message;
+
+        /** protocol, otherwise the protocol of the request is used */
+        private String protocol;
+
+        /** header fields (name, value) */
+        private List<String[]> headers;
+
+        /** body */
+        private byte[] body;
+
+        /** size of a generated body, otherwise -1 */
+        private long size;
+
+        /** size of the chunks, 0 without chunked encoding */
+        private int chunk;
+
+        /** latency in milliseconds */
+        private long latency;
+
+        /** raw response (header and body) */
+        private byte[] raw;
+
+        /** Constructor, creates a new Response object. */
+        private Response() {
+
+            this.headers = new ArrayList<>();
+            this.body    = new byte[0];
+            this.size    = -1;
+        }
+
+        /**
+         * Creates a response with a status and the standard message.
+         * @param  status status
+         * @return the created response
+         */
+        public static Response create(int status) {
+            return Response.create(status, null);
+        }
+
+        /**
+         * Creates a response with a status and a message.
+         * @param  status  status
+         * @param  message message
+         * @return the created response
+         */
+        public static Response create(int status, String message) {
+
+            if (status < 100 || status > 999)
+                throw new IllegalArgumentException("Invalid status");
+            Response response = new Response();
+            response.status  = status;
+            response.message = message != null ? message : Response.getMessage(status);
+            return response;
+        }
+
+        /**
+         * Creates a canned response from raw data (header and body), which
+         * are sent unchanged.
+         * @param  data raw data
+         * @return the created response
+         */
+        public static Response raw(byte[] data) {
+
+            Objects.requireNonNull(data, "Data required");
+            Response response = new Response();
+            response.raw = data.clone();
+            return response;
+        }
+
+        /**
+         * Determines the standard message for a status.
+         * @param  status status
+         * @return the standard message
+         */
+        private static String getMessage(int status) {
+
+            switch (status) {
+                case 200: return "OK";
+                case 201: return "Created";
+                case 204: return "No Content";
+                case 206: return "Partial Content";
+                case 301: return "Moved Permanently";
+                case 302: return "Found";
+                case 304: return "Not Modified";
+                case 400: return "Bad Request";
+                case 401: return "Unauthorized";
+                case 403: return "Forbidden";
+                case 404: return "Not Found";
+                case 405: return "Method Not Allowed";
+                case 408: return "Request Timeout";
+                case 411: return "Length Required";
+                case 413: return "Payload Too Large";
+                case 416: return "Range Not Satisfiable";
+                case 500: return "Internal Server Error";
+                case 501: return "Not Implemented";
+                case 502: return "Bad Gateway";
+                case 503: return "Service Unavailable";
+                case 504: return "Gateway Timeout";
+                default:  return "Status";
+            }
+        }
+
+        /**
+         * Sets the protocol of the status line, e.g. {@code HTTP/1.0}.
+         * Without, the protocol of the request is used.
+         * @param  protocol protocol
+         * @return the response itself
+         */
+        public Response protocol(String protocol) {
+
+            this.protocol = protocol;
+            return this;
+        }
+
+        /**
+         * Adds a header field.
+         * @param  name  name
+         * @param  value value
+         * @return the response itself
+         */
+        public Response header(String name, String value) {
+
+            Objects.requireNonNull(name, "Name required");
+            this.headers.add(new String[] {name, String.valueOf(value)});
+            return this;
+        }
+
+        /**
+         * Sets the body.
+         * @param  body body
+         * @return the response itself
+         */
+        public Response body(byte[] body) {
+
+            this.body = body == null ? new byte[0] : body.clone();
+            this.size = -1;
+            return this;
+        }
+
+        /**
+         * Sets the body as text.
+         * @param  body body
+         * @return the response itself
+         */
+        public Response body(String body) {
+            return this.body(body == null ? null : body.getBytes());
+        }
+
+        /**
+         * Sets a generated body of the specified size, as created by
+         * {@link MockUtils#createInputStream(long)}. The data is created on
+         * the fly and is not stored in the memory.
+         * @param  size size
+         * @return the response itself
+         */
+        public Response body(long size) {
+
+            if (size < 0)
+                throw new IllegalArgumentException("Invalid size");
+            this.body = new byte[0];
+            this.size = size;
+            return this;
+        }
+
+        /**
+         * Sets the chunked transfer encoding with the specified size of the
+         * chunks. With 0 the chunked transfer encoding is not used.
+         * @param  size size of the chunks
+         * @return the response itself
+         */
+        public Response chunked(int size) {
+
+            if (size < 0)
+                throw new IllegalArgumentException("Invalid size");
+            this.chunk = size;
+            return this;
+        }
+
+        /**
+         * Sets the latency of the response in milliseconds.
+         * @param  latency latency in milliseconds
+         * @return the response itself
+         */
+        public Response latency(long latency) {
+
+            if (latency < 0)
+                throw new IllegalArgumentException("Invalid latency");
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * Tests whether the header contains a field.
+         * @param  name name of the field
+         * @return {@code true} if the header contains the field
+         */
+        private boolean containsHeader(String name) {
+
+            for (String[] header : this.headers)
+                if (header[0].equalsIgnoreCase(name))
+                    return true;
+            return false;
+        }
+    }
+
+    /** State of a connection. */
+    private class Connection {
+
+        /** channel of the connection */
+        private SocketChannel channel;
+
+        /** selection key of the connection */
+        private SelectionKey key;
+
+        /** received data */
+        private byte[] input;
+
+        /** size of the received data */
+        private int size;
+
+        /** data to write */
+        private ByteBuffer output;
+
+        /** body to write */
+        private InputStream body;
+
+        /** size of the chunks, 0 without chunked encoding */
+        private int chunk;
+
+        /** indicator for: last chunk has been written */
+        private boolean last;
+
+        /** buffer for reading the body, reused for all responses */
+        private byte[] buffer;
+
+        /** buffer of the body data with space for the chunk frame */
+        private ByteBuffer data;
+
+        /** time (nano time) from which the response is written */
+        private long ready;
+
+        /** indicator for: keep connection alive after the response */
+        private boolean alive;
+
+        /**
+         * Constructor, creates a new Connection object.
+         * @param channel channel of the connection
+         */
+        private Connection(SocketChannel channel) {
+
+            this.channel = channel;
+            this.input   = new byte[8192];
+            this.output  = ByteBuffer.allocate(65535);
+            this.output.flip();
+        }
+
+        /** Closes the connection. */
+        private void close() {
+
+            HttpMockServer.this.delays.remove(this);
+            this.key.cancel();
+            try {this.channel.close();
+            } catch (IOException exception) {
+                return;
+            }
+        }
+
+        /**
+         * Reads the available data and processes complete requests.
+         * @throws IOException
+         *     In case of faulty network access.
+         */
+        private void read()
+                throws IOException {
+
+            if (this.size >= this.input.length)
+                this.input = Arrays.copyOf(this.input, this.input.length *2);
+            int size = this.channel.read(ByteBuffer.wrap(this.input, this.size, this.input.length -this.size));
+            if (size < 0) {
+                this.close();
+                return;
+            }
+            this.size += size;
+            this.process();
+        }
+
+        /**
+         * Determines the end of the header in the received data.
+         * @return the offset of the body, otherwise -1
+         */
+        private int locateBody() {
+
+            for (int loop = 0; loop < this.size; loop++) {
+                if (this.input[loop] != '\n')
+                    continue;
+                if (loop +1 < this.size
+                        && this.input[loop +1] == '\n')
+                    return loop +2;
+                if (loop +2 < this.size
+                        && this.input[loop +1] == '\r'
+                        && this.input[loop +2] == '\n')
+                    return loop +3;
+            }
+            return -1;
+        }
+
+        /**
+         * Processes a complete request in the received data, if available.
+         * @throws IOException
+         *     In case of faulty network access.
+         */
+        private void process()
+                throws IOException {
+
+            int offset = this.locateBody();
+            if (offset < 0)
+                return;
+
+            HttpUtils.Response header = HttpUtils.Response.parse(Arrays.copyOf(this.input, offset));
+            long length = 0;
+            if (header.getHeader(HttpUtils.HeaderField.CONTENT_LENGTH) != null)
+                try {length = Long.parseLong(header.getHeader(HttpUtils.HeaderField.CONTENT_LENGTH));
+                } catch (NumberFormatException exception) {
+                    length = -1;
+                }
+            if (length < 0
+                    || offset +length > Integer.MAX_VALUE -8) {
+                this.close();
+                return;
+            }
+            if (this.size < offset +length)
+                return;
+
+            String request = new String(this.input, 0, (int)(offset +length), StandardCharsets.ISO_8859_1);
+            this.size -= (int)(offset +length);
+            System.arraycopy(this.input, (int)(offset +length), this.input, 0, this.size);
+            synchronized (HttpMockServer.this.requests) {
+                HttpMockServer.this.count++;
+                if (HttpMockServer.this.record > 0) {
+                    if (HttpMockServer.this.requests.size() >= HttpMockServer.this.record)
+                        HttpMockServer.this.requests.removeFirst();
+                    HttpMockServer.this.requests.add(request);
+                }
+            }
+
+            String[] status = request.split("\r?\n", 2)[0].trim().split("\\s+");
+            String method   = status.length > 0 ? status[0] : "";
+            String protocol = status.length > 2 ? status[2].toUpperCase(Locale.ENGLISH) : "HTTP/1.0";
+            String connection = header.getHeader("Connection");
+            this.alive = HttpMockServer.this.keepAlive
+                    && (("HTTP/1.1").equals(protocol) ? !("close").equalsIgnoreCase(connection)
+                            : ("keep-alive").equalsIgnoreCase(connection));
+
+            Response response = HttpMockServer.this.respond(request);
+            this.prepare(response, method, protocol);
+
+            this.key.interestOps(0);
+            if (response.latency > 0) {
+                this.ready = System.nanoTime() +response.latency *1000000L;
+                HttpMockServer.this.delays.add(this);
+            } else this.key.interestOps(SelectionKey.OP_WRITE);
+        }
+
+        /**
+         * Prepares the output of a response.
+         * @param response response
+         * @param method   method of the request
+         * @param protocol protocol of the request
+         */
+        private void prepare(Response response, String method, String protocol) {
+
+            this.body  = null;
+            this.chunk = 0;
+            this.last  = false;
+
+            if (response.raw != null) {
+                this.output = ByteBuffer.wrap(response.raw);
+                return;
+            }
+
+            boolean head = ("HEAD").equalsIgnoreCase(method);
+            long length = response.size >= 0 ? response.size : response.body.length;
+            StringBuilder builder = new StringBuilder()
+                    .append(response.protocol != null ? response.protocol : protocol)
+                    .append(' ').append(response.status).append(' ').append(response.message).append("\r\n");
+            for (String[] header : response.headers)
+                builder.append(header[0]).append(": ").append(header[1]).append("\r\n");
+            if (response.chunk > 0) {
+                if (!response.containsHeader("Transfer-Encoding"))
+                    builder.append("Transfer-Encoding: chunked\r\n");
+            } else if (!response.containsHeader(HttpUtils.HeaderField.CONTENT_LENGTH))
+                builder.append("Content-Length: ").append(length).append("\r\n");
+            if (!response.containsHeader("Connection"))
+                builder.append("Connection: ").append(this.alive ? "keep-alive" : "close").append("\r\n");
+            builder.append("\r\n");
+
+            this.output = ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.ISO_8859_1));
+            if (head)
+                return;
+            this.body  = response.size >= 0 ? MockUtils.createInputStream(response.size)
+                    : new ByteArrayInputStream(response.body);
+            this.chunk = response.chunk;
+        }
+
+        /**
+         * Fills the output with the next data of the body.
+         * @return {@code false} if the body has been written completely
+         * @throws IOException
+         *     In case of faulty data access.
+         */
+        private boolean fill()
+                throws IOException {
+
+            if (this.body == null
+                    || this.last)
+                return false;
+
+            // the buffers are allocated once per connection, the data buffer
+            // has space for the chunk frame (size + CRLF) before and after
+            int capacity = this.chunk > 0 ? this.chunk : 65535;
+            if (this.buffer == null
+                    || this.buffer.length < capacity) {
+                this.buffer = new byte[capacity];
+                this.data = ByteBuffer.allocate(capacity +HttpMockServer.FRAME_SIZE +2);
+            }
+            byte[] data = this.data.array();
+
+            // the stream of MockUtils only supports reading from offset 0
+            int size = 0;
+            for (int read; size < capacity
+                    && (read = this.body.read(this.buffer, 0, capacity -size)) > 0;) {
+                System.arraycopy(this.buffer, 0, data, HttpMockServer.FRAME_SIZE +size, read);
+                size += read;
+            }
+
+            if (this.chunk <= 0) {
+                if (size <= 0)
+                    return false;
+                this.data.limit(HttpMockServer.FRAME_SIZE +size).position(HttpMockServer.FRAME_SIZE);
+                this.output = this.data;
+                return true;
+            }
+
+            if (size <= 0) {
+                this.last = true;
+                this.output = ByteBuffer.wrap(HttpMockServer.LAST_CHUNK);
+                return true;
+            }
+            int offset = HttpMockServer.FRAME_SIZE;
+            data[--offset] = '\n';
+            data[--offset] = '\r';
+            for (int value = size; value > 0; value >>>= 4)
+                data[--offset] = (byte)Character.forDigit(value & 0xF, 16);
+            data[HttpMockServer.FRAME_SIZE +size] = '\r';
+            data[HttpMockServer.FRAME_SIZE +size +1] = '\n';
+            this.data.limit(HttpMockServer.FRAME_SIZE +size +2).position(offset);
+            this.output = this.data;
+            return true;
+        }
+
+        /**
+         * Writes the response as far as the connection accepts the data.
+         * @throws IOException
+         *     In case of faulty network access.
+         */
+        private void write()
+                throws IOException {
+
+            while (true) {
+                if (!this.output.hasRemaining()
+                        && !this.fill()) {
+                    this.complete();
+                    return;
+                }
+                this.channel.write(this.output);
+                if (this.output.hasRemaining())
+                    return;
+            }
+        }
+
+        /**
+         * Completes the response, the connection is closed or is prepared
+         * for the next request.
+         * @throws IOException
+         *     In case of faulty network access.
+         */
+        private void complete()
+                throws IOException {
+
+            this.body = null;
+            if (!this.alive) {
+                this.close();
+                return;
+            }
+            this.key.interestOps(SelectionKey.OP_READ);
+            this.process();
+        }
+    }
+}
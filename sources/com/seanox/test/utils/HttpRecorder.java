@@ -0,0 +1,616 @@
+/**
+ * LIZENZBEDINGUNGEN - Seanox Software Solutions ist ein Open-Source-Projekt,
+ * im Folgenden Seanox Software Solutions oder kurz Seanox genannt.
+ * Diese Software unterliegt der Version 2 der GNU General Public License.
+ *
+ * Seanox Test SDK
+ * Copyright (C) 2026 Seanox Software Solutions
+ *
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of version 2 of the GNU General Public License as published
+ * by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for
+ * more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ */
+package com.seanox.test.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.seanox.test.utils.HttpUtils.Keystore;
+
+/**
+ * Recorder for HTTP requests with their relative timing and replayer for a
+ * recording as reproducible load test.<br>
+ * <br>
+ * The recorder captures the raw requests, as they are passed to
+ * {@link HttpUtils#sendRequest(String, String)}, together with the time
+ * offset to the first request. The recording can be saved in a compact
+ * binary format and loaded again.<br>
+ * <br>
+ * The replay sends the requests to a server with the original timing,
+ * N times faster or as fast as possible, distributed over a number of
+ * concurrent connections, and collects latency and status per request.
+ *
+ * <h3>Example</h3>
+ * <pre>
+ * HttpRecorder recorder = HttpRecorder.create();
+ * recorder.sendRequest("127.0.0.1:8080", "GET / HTTP/1.0\r\n\r\n");
+ * ...
+ * recorder.save(new File("load.rec"));
+ *
+ * HttpRecorder.Replay replay = HttpRecorder.load(new File("load.rec"))
+ *         .replay("127.0.0.1:8080", 10, 50);
+ * replay.getLatency(0.99);
+ * </pre>
+ * HttpRecorder 1.0 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
+ * All rights reserved.
+ *
+ * @author  Seanox Software Solutions
+ * @version 1.0 20261019
+ */
+public class HttpRecorder {
+
+    /** magic number of the binary format (SHR1) */
+    private static final int MAGIC = 0x53485231;
+
+    /** time offsets of the requests in nanoseconds */
+    private long[] offsets;
+
+    /** recorded requests */
+    private List<String> requests;
+
+    /** start of the recording (nano time) or -1 */
+    private long start;
+
+    /** Constructor, creates a new HttpRecorder object. */
+    private HttpRecorder() {
+
+        this.offsets  = new long[64];
+        this.requests = new ArrayList<>();
+        this.start    = -1;
+    }
+
+    /**
+     * Creates a new HttpRecorder with an empty recording.
+     * @return the created HttpRecorder
+     */
+    public static HttpRecorder create() {
+        return new HttpRecorder();
+    }
+
+    /**
+     * Adds a request with a time offset to the recording.
+     * @param offset  time offset in nanoseconds
+     * @param request request
+     */
+    private synchronized void add(long offset, String request) {
+
+        int size = this.requests.size();
+        if (size >= this.offsets.length)
+            this.offsets = Arrays.copyOf(this.offsets, size *2);
+        this.offsets[size] = offset;
+        this.requests.add(request);
+    }
+
+    /**
+     * Records a request with the time offset to the first recorded request.
+     * @param request request
+     */
+    public void record(String request) {
+
+        Objects.requireNonNull(request, "Request required");
+
+        long timing = System.nanoTime();
+        synchronized (this) {
+            if (this.start < 0)
+                this.start = timing;
+            this.add(Math.max(0, timing -this.start), request);
+        }
+    }
+
+    /**
+     * Records a request and sends it to a server.
+     * @param  address address
+     * @param  request request
+     * @return the received response
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public byte[] sendRequest(String address, String request)
+            throws IOException, GeneralSecurityException {
+
+        this.record(request);
+        return HttpUtils.sendRequest(address, request);
+    }
+
+    /**
+     * Records a request and sends it to a server.
+     * @param  address  address
+     * @param  request  request
+     * @param  keystore keystore
+     * @param  timeout  timeout
+     * @return the received response
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public byte[] sendRequest(String address, String request, Keystore keystore, int timeout)
+            throws IOException, GeneralSecurityException {
+
+        this.record(request);
+        return HttpUtils.sendRequest(address, request, keystore, timeout);
+    }
+
+    /**
+     * Returns the number of recorded requests.
+     * @return the number of recorded requests
+     */
+    public synchronized int size() {
+        return this.requests.size();
+    }
+
+    /**
+     * Returns the recorded requests in the order of the recording.
+     * @return the recorded requests
+     */
+    public synchronized String[] getRequests() {
+        return this.requests.toArray(new String[0]);
+    }
+
+    /**
+     * Writes a variable-length unsigned number (7 bits per byte).
+     * @param  output output stream
+     * @param  value  value
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    private static void writeNumber(DataOutputStream output, long value)
+            throws IOException {
+
+        while ((value & ~0x7FL) != 0) {
+            output.write((int)((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.write((int)value);
+    }
+
+    /**
+     * Reads a variable-length unsigned number (7 bits per byte).
+     * @param  input input stream
+     * @return the read value
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    private static long readNumber(DataInputStream input)
+            throws IOException {
+
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int digit = input.read();
+            if (digit < 0)
+                throw new EOFException();
+            value |= (long)(digit & 0x7F) << shift;
+            if ((digit & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("Invalid recording");
+    }
+
+    /**
+     * Writes the recording in the compact binary format.
+     * The time offsets are stored as deltas in microseconds, the requests as
+     * UTF-8, all entries with variable-length numbers and compressed.
+     * @param  output output stream
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public synchronized void write(OutputStream output)
+            throws IOException {
+
+        DeflaterOutputStream deflater = new DeflaterOutputStream(output, true);
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(deflater, 65535));
+        data.writeInt(HttpRecorder.MAGIC);
+        HttpRecorder.writeNumber(data, this.requests.size());
+        long offset = 0;
+        for (int loop = 0; loop < this.requests.size(); loop++) {
+            long micros = this.offsets[loop] /1000;
+            HttpRecorder.writeNumber(data, Math.max(0, micros -offset));
+            offset = Math.max(offset, micros);
+            byte[] request = this.requests.get(loop).getBytes(StandardCharsets.UTF_8);
+            HttpRecorder.writeNumber(data, request.length);
+            data.write(request);
+        }
+        data.flush();
+        deflater.finish();
+        output.flush();
+    }
+
+    /**
+     * Saves the recording in the compact binary format as file.
+     * @param  file file
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    public void save(File file)
+            throws IOException {
+
+        try (OutputStream output = new FileOutputStream(file)) {
+            this.write(output);
+        }
+    }
+
+    /**
+     * Reads a recording in the compact binary format.
+     * @param  input input stream
+     * @return the read recording
+     * @throws IOException
+     *     In case of faulty data access or an invalid format.
+     */
+    public static HttpRecorder read(InputStream input)
+            throws IOException {
+
+        DataInputStream data = new DataInputStream(new BufferedInputStream(new InflaterInputStream(input), 65535));
+        if (data.readInt() != HttpRecorder.MAGIC)
+            throw new IOException("Invalid recording");
+        HttpRecorder recorder = new HttpRecorder();
+        long count = HttpRecorder.readNumber(data);
+        long offset = 0;
+        for (long loop = 0; loop < count; loop++) {
+            offset += HttpRecorder.readNumber(data);
+            long length = HttpRecorder.readNumber(data);
+            if (length > Integer.MAX_VALUE)
+                throw new IOException("Invalid recording");
+            byte[] request = new byte[(int)length];
+            data.readFully(request);
+            recorder.add(offset *1000, new String(request, StandardCharsets.UTF_8));
+        }
+        return recorder;
+    }
+
+    /**
+     * Loads a recording in the compact binary format from a file.
+     * @param  file file
+     * @return the loaded recording
+     * @throws IOException
+     *     In case of faulty data access or an invalid format.
+     */
+    public static HttpRecorder load(File file)
+            throws IOException {
+
+        try (InputStream input = new FileInputStream(file)) {
+            return HttpRecorder.read(input);
+        }
+    }
+
+    /**
+     * Replays the recording to a server.
+     * The speed is a factor of the recorded timing: 1 uses the original
+     * timing, N is N times faster and 0 sends as fast as possible. The
+     * requests are distributed over the specified number of concurrent
+     * connections. The method blocks until all requests are completed.
+     * @param  address     address
+     * @param  speed       factor of the recorded timing, 0 for maximum
+     * @param  connections number of concurrent connections
+     * @return the result of the replay
+     * @throws InterruptedException
+     *     When the replay has been interrupted.
+     */
+    public Replay replay(String address, double speed, int connections)
+            throws InterruptedException {
+        return this.replay(address, null, 65535, speed, connections);
+    }
+
+    /**
+     * Replays the recording to a server.
+     * The speed is a factor of the recorded timing: 1 uses the original
+     * timing, N is N times faster and 0 sends as fast as possible. The
+     * requests are distributed over the specified number of concurrent
+     * connections. The method blocks until all requests are completed.
+     * @param  address     address
+     * @param  keystore    keystore
+     * @param  timeout     timeout
+     * @param  speed       factor of the recorded timing, 0 for maximum
+     * @param  connections number of concurrent connections
+     * @return the result of the replay
+     * @throws InterruptedException
+     *     When the replay has been interrupted.
+     */
+    public Replay replay(String address, Keystore keystore, int timeout, double speed, int connections)
+            throws InterruptedException {
+
+        if (!address.matches(Pattern.NETWORK_CONNECTION))
+            throw new IllegalArgumentException("Invalid connection string: " + address + ", expected <host>:<port>");
+        if (speed < 0
+                || Double.isNaN(speed))
+            throw new IllegalArgumentException("Invalid speed");
+        if (connections <= 0)
+            throw new IllegalArgumentException("Invalid number of connections");
+
+        String[] requests;
+        long[]   offsets;
+        synchronized (this) {
+            requests = this.requests.toArray(new String[0]);
+            offsets  = Arrays.copyOf(this.offsets, requests.length);
+        }
+
+        Result[] results = new Result[requests.length];
+        AtomicInteger cursor = new AtomicInteger();
+        long start = System.nanoTime();
+
+        Thread[] threads = new Thread[Math.min(connections, Math.max(1, requests.length))];
+        for (int loop = 0; loop < threads.length; loop++) {
+            threads[loop] = new Thread() {
+                @Override
+                public void run() {
+                    for (int index; (index = cursor.getAndIncrement()) < requests.length;) {
+                        if (this.isInterrupted())
+                            return;
+                        long schedule = start;
+                        if (speed > 0)
+                            schedule += (long)(offsets[index] /speed);
+                        for (long delay; (delay = schedule -System.nanoTime()) > 0;) {
+                            // when interrupted, parkNanos returns immediately
+                            if (this.isInterrupted())
+                                return;
+                            LockSupport.parkNanos(delay);
+                        }
+
+                        Result result = new Result();
+                        result.index  = index;
+                        result.offset = schedule -start;
+                        result.status = -1;
+                        long timing = System.nanoTime();
+                        result.delay = timing -schedule;
+                        try {
+                            byte[] response = HttpUtils.sendRequest(address, requests[index], keystore, timeout);
+                            result.latency = System.nanoTime() -timing;
+                            result.length  = response.length;
+                            result.status  = HttpUtils.Response.parse(response).getStatus();
+                        } catch (Exception exception) {
+                            result.latency   = System.nanoTime() -timing;
+                            result.exception = exception;
+                        }
+                        results[index] = result;
+                    }
+                }
+            };
+            threads[loop].setDaemon(true);
+            threads[loop].start();
+        }
+
+        try {
+            for (Thread thread : threads)
+                thread.join();
+        } catch (InterruptedException exception) {
+            for (Thread thread : threads)
+                thread.interrupt();
+            throw exception;
+        }
+
+        Replay replay = new Replay();
+        replay.results  = results;
+        replay.duration = System.nanoTime() -start;
+        return replay;
+    }
+
+    /** Result of a replayed request. */
+    public static class Result {
+
+        /** index of the request in the recording */
+        private int index;
+
+        /** scheduled time offset to the start of the replay in nanoseconds */
+        private long offset;
+
+        /** delay of the sending to the scheduled time in nanoseconds */
+        private long delay;
+
+        /** latency in nanoseconds */
+        private long latency;
+
+        /** length of the response */
+        private int length;
+
+        /** status of the response, otherwise -1 */
+        private int status;
+
+        /** possibly occurring error */
+        private Exception exception;
+
+        /** Constructor, creates a new Result object. */
+        private Result() {
+        }
+
+        /**
+         * Returns the index of the request in the recording.
+         * @return the index of the request
+         */
+        public int getIndex() {
+            return this.index;
+        }
+
+        /**
+         * Returns the scheduled time offset to the start of the replay.
+         * @return the scheduled time offset in nanoseconds
+         */
+        public long getOffset() {
+            return this.offset;
+        }
+
+        /**
+         * Returns the delay of the sending to the scheduled time, e.g. if
+         * all connections were busy.
+         * @return the delay of the sending in nanoseconds
+         */
+        public long getDelay() {
+            return this.delay;
+        }
+
+        /**
+         * Returns the latency from sending the request to the complete
+         * response.
+         * @return the latency in nanoseconds
+         */
+        public long getLatency() {
+            return this.latency;
+        }
+
+        /**
+         * Returns the length of the response.
+         * @return the length of the response
+         */
+        public int getLength() {
+            return this.length;
+        }
+
+        /**
+         * Returns the status of the response.
+         * @return the status of the response, otherwise -1
+         */
+        public int getStatus() {
+            return this.status;
+        }
+
+        /**
+         * Returns the error, if the request has failed.
+         * @return the error, otherwise {@code null}
+         */
+        public Exception getException() {
+            return this.exception;
+        }
+
+        /**
+         * Tests whether the request has failed.
+         * @return {@code true} if the request has failed
+         */
+        public boolean isFailed() {
+            return this.exception != null;
+        }
+    }
+
+    /** Result of a replay. */
+    public static class Replay {
+
+        /** results in order of the recording */
+        private Result[] results;
+
+        /** duration of the replay in nanoseconds */
+        private long duration;
+
+        /** sorted latencies (lazy) */
+        private long[] latencies;
+
+        /** Constructor, creates a new Replay object. */
+        private Replay() {
+        }
+
+        /**
+         * Returns the results of all requests in order of the recording.
+         * @return the results of all requests
+         */
+        public Result[] getResults() {
+            return this.results.clone();
+        }
+
+        /**
+         * Returns the number of replayed requests.
+         * @return the number of replayed requests
+         */
+        public int getCount() {
+            return this.results.length;
+        }
+
+        /**
+         * Returns the number of failed requests.
+         * @return the number of failed requests
+         */
+        public int getErrors() {
+
+            int count = 0;
+            for (Result result : this.results)
+                if (result.isFailed())
+                    count++;
+            return count;
+        }
+
+        /**
+         * Returns the number of responses with the specified status.
+         * @param  status status
+         * @return the number of responses with the status
+         */
+        public int getCount(int status) {
+
+            int count = 0;
+            for (Result result : this.results)
+                if (!result.isFailed()
+                        && result.status == status)
+                    count++;
+            return count;
+        }
+
+        /**
+         * Returns the duration of the replay.
+         * @return the duration of the replay in nanoseconds
+         */
+        public long getDuration() {
+            return this.duration;
+        }
+
+        /**
+         * Returns the throughput of the replay.
+         * @return the throughput in requests per second
+         */
+        public double getThroughput() {
+            return this.results.length /Math.max(1e-9, this.duration /1e9);
+        }
+
+        /**
+         * Returns the latency for a percentile (nearest rank), e.g. 0.5 for
+         * the median or 0.99 for the 99th percentile.
+         * @param  percentile percentile (0 - 1)
+         * @return the latency in nanoseconds, 0 without requests
+         */
+        public synchronized long getLatency(double percentile) {
+
+            if (percentile < 0 || percentile > 1)
+                throw new IllegalArgumentException("Invalid percentile");
+            if (this.latencies == null) {
+                this.latencies = new long[this.results.length];
+                for (int loop = 0; loop < this.results.length; loop++)
+                    this.latencies[loop] = this.results[loop].latency;
+                Arrays.sort(this.latencies);
+            }
+            if (this.latencies.length <= 0)
+                return 0;
+            int index = (int)Math.ceil(percentile *this.latencies.length) -1;
+            return this.latencies[Math.max(0, Math.min(this.latencies.length -1, index))];
+        }
+    }
+}
@@ -4,7 +4,7 @@
  * Diese Software unterliegt der Version 2 der GNU General Public License.
  *
  * Seanox Test SDK
- * Copyright (C) 2018 Seanox Software Solutionss
+ * Copyright (C) 2026 Seanox Software Solutions
  *
  * This program is free software; you can redistribute it and/or modify it
  * under the terms of version 2 of the GNU General Public License as published
@@ -21,18 +21,34 @@
  */
 package com.seanox.test.utils;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.PushbackInputStream;
 import java.net.Socket;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.Date;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
@@ -44,12 +60,12 @@ import javax.net.ssl.TrustManagerFactory;
 /**
  * Utilities for HTTP(S) connections.<br>
  * <br>
- * HttpUtils 1.0.1 20180112<br>
- * Copyright (C) 2018 Seanox Software Solutions<br>
+ * HttpUtils 1.1.0 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
  * All rights reserved.
  *
  * @author  Seanox Software Solutions
- * @version 1.0.1 20180112
+ * @version 1.1.0 20261019
  */
 public class HttpUtils {
     
@@ -73,34 +89,652 @@ public class HttpUtils {
         public static final String WWW_AUTHENTICATE = "WWW-Authenticate";
     }
     
+    /**
+     * Parsed HTTP response.
+     * The status line and the header are parsed once in a single pass over
+     * the bytes of the response. The header fields are indexed
+     * case-insensitive, the body is not decoded and is only referenced by
+     * its offset in the data of the response.
+     */
+    public static class Response {
+
+        /** data of the response */
+        private byte[] data;
+
+        /** protocol of the status line */
+        private String protocol;
+
+        /** status code of the status line, otherwise -1 */
+        private int status;
+
+        /** message of the status line */
+        private String message;
+
+        /** lines of the header incl. status line in original order */
+        private String[] lines;
+
+        /** index of header fields (lower case name, values) */
+        private Map<String, List<String>> fields;
+
+        /** offset of the body in the data */
+        private int offset;
+
+        /** Constructor, creates a new Response object. */
+        private Response() {
+        }
+
+        /**
+         * Parses the status line and the header of a HTTP response.
+         * Leading line breaks are ignored. Line breaks are accepted as CRLF
+         * and LF and folded header lines are joined. Without an empty line as
+         * end of header, the complete response is used as header.
+         * If {@code null} is passed, {@code null} is returned.
+         * @param  response response
+         * @return the parsed response
+         */
+        public static Response parse(byte[] response) {
+
+            if (response == null)
+                return null;
+
+            Response result = new Response();
+            result.data   = response;
+            result.status = -1;
+            result.fields = new HashMap<>();
+
+            int cursor = 0;
+            while (cursor < response.length
+                    && (response[cursor] == '\r' || response[cursor] == '\n'))
+                cursor++;
+
+            List<String> lines = new ArrayList<>();
+            String field = null;
+            while (cursor < response.length) {
+
+                int start = cursor;
+                while (cursor < response.length
+                        && response[cursor] != '\n')
+                    cursor++;
+                int end = cursor;
+                if (end > start && response[end -1] == '\r')
+                    end--;
+                if (cursor < response.length)
+                    cursor++;
+                if (end <= start)
+                    break;
+
+                String line = new String(response, start, end -start, StandardCharsets.ISO_8859_1);
+                if (lines.isEmpty()) {
+                    lines.add(line);
+                    result.parseStatus(line);
+                    continue;
+                }
+
+                //folded lines continue the value of the previous field
+                if ((line.charAt(0) == ' ' || line.charAt(0) == '\t')
+                        && field != null) {
+                    lines.set(lines.size() -1, lines.get(lines.size() -1) + line);
+                    List<String> values = result.fields.get(field);
+                    values.set(values.size() -1, (values.get(values.size() -1) + " " + line.trim()).trim());
+                    continue;
+                }
+
+                lines.add(line);
+                int index = line.indexOf(':');
+                if (index <= 0) {
+                    field = null;
+                    continue;
+                }
+                field = line.substring(0, index).trim().toLowerCase(Locale.ENGLISH);
+                List<String> values = result.fields.get(field);
+                if (values == null)
+                    result.fields.put(field, values = new ArrayList<>(1));
+                values.add(line.substring(index +1).trim());
+            }
+
+            result.lines  = lines.toArray(new String[0]);
+            result.offset = cursor;
+
+            return result;
+        }
+
+        /**
+         * Parses the status line {@code <protocol> <status> <message>}.
+         * @param line status line
+         */
+        private void parseStatus(String line) {
+
+            int index = line.indexOf(' ');
+            if (index < 0
+                    || !line.startsWith("HTTP/"))
+                return;
+            this.protocol = line.substring(0, index);
+
+            int cursor = index +1;
+            int status = 0;
+            int digits = 0;
+            for (; cursor < line.length() && digits < 3; cursor++, digits++) {
+                char digit = line.charAt(cursor);
+                if (digit < '0' || digit > '9')
+                    break;
+                status = status *10 +(digit -'0');
+            }
+            if (digits != 3)
+                return;
+            this.status  = status;
+            this.message = line.substring(cursor).trim();
+        }
+
+        /**
+         * Returns the protocol of the status line.
+         * @return the protocol, otherwise {@code null}
+         */
+        public String getProtocol() {
+            return this.protocol;
+        }
+
+        /**
+         * Returns the status code of the status line.
+         * @return the status code, otherwise -1
+         */
+        public int getStatus() {
+            return this.status;
+        }
+
+        /**
+         * Returns the message of the status line.
+         * @return the message, otherwise {@code null}
+         */
+        public String getMessage() {
+            return this.message;
+        }
+
+        /**
+         * Returns all lines of the header incl. the status line in original
+         * order.
+         * @return all lines of the header incl. the status line
+         */
+        public String[] getHeaderLines() {
+            return this.lines.clone();
+        }
+
+        /**
+         * Returns the first value of a header field.
+         * The name of the field is case-insensitive.
+         * @param  field field
+         * @return the first value of the header field, otherwise {@code null}
+         */
+        public String getHeader(String field) {
+
+            List<String> values = this.lookup(field);
+            if (values == null)
+                return null;
+            return values.get(0);
+        }
+
+        /**
+         * Returns all values of a header field.
+         * The name of the field is case-insensitive.
+         * @param  field field
+         * @return all values of the header field, otherwise an empty array
+         */
+        public String[] getHeaders(String field) {
+
+            List<String> values = this.lookup(field);
+            if (values == null)
+                return new String[0];
+            return values.toArray(new String[0]);
+        }
+
+        /**
+         * Checks exists one or a set of header fields.
+         * The names of the fields are case-insensitive.
+         * @param  fields fields
+         * @return {@code true} if all passed fields exists
+         */
+        public boolean containsHeader(String... fields) {
+
+            if (fields == null
+                    || fields.length <= 0)
+                return false;
+            for (String field : fields)
+                if (this.lookup(field) == null)
+                    return false;
+            return true;
+        }
+
+        /**
+         * Determines the values of a header field from the index.
+         * @param  field field
+         * @return the values of the header field, otherwise {@code null}
+         */
+        private List<String> lookup(String field) {
+
+            if (field == null)
+                return null;
+            return this.fields.get(field.trim().toLowerCase(Locale.ENGLISH));
+        }
+
+        /**
+         * Returns the offset of the body in the data of the response.
+         * @return the offset of the body
+         */
+        public int getBodyOffset() {
+            return this.offset;
+        }
+
+        /**
+         * Returns the length of the body.
+         * @return the length of the body
+         */
+        public int getBodyLength() {
+            return this.data.length -this.offset;
+        }
+
+        /**
+         * Returns a copy of the body.
+         * @return a copy of the body
+         */
+        public byte[] getBody() {
+            return Arrays.copyOfRange(this.data, this.offset, this.data.length);
+        }
+
+        /**
+         * Returns the body as input stream without copying the data.
+         * @return the body as input stream
+         */
+        public InputStream getBodyStream() {
+            return new ByteArrayInputStream(this.data, this.offset, this.getBodyLength());
+        }
+
+        /**
+         * Returns the decoded content of the body as input stream.
+         * Transfer-Encoding chunked and Content-Encoding gzip and deflate
+         * are decoded on the fly, see {@link HttpUtils#decode(InputStream, Response)}.
+         * @return the decoded content of the body as input stream
+         * @throws IOException
+         *     In case of an unsupported or corrupt encoding.
+         */
+        public InputStream getContentStream()
+                throws IOException {
+            return HttpUtils.decode(this.getBodyStream(), this);
+        }
+
+        /**
+         * Returns the decoded content of the body.
+         * Transfer-Encoding chunked and Content-Encoding gzip and deflate
+         * are decoded, see {@link HttpUtils#decode(InputStream, Response)}.
+         * @return the decoded content of the body
+         * @throws IOException
+         *     In case of an unsupported or corrupt encoding.
+         */
+        public byte[] getContent()
+                throws IOException {
+            try (InputStream input = this.getContentStream()) {
+                return StreamUtils.read(input);
+            }
+        }
+    }
+
+    /**
+     * Decodes the body of a response as stream, so that large responses can
+     * be processed incrementally without buffering the encoded and decoded
+     * data. The body is decoded according to the header of the response:
+     * <ul>
+     *   <li>
+     *     Transfer-Encoding: {@code chunked}, otherwise the body is limited
+     *     by Content-Length, if available
+     *   </li>
+     *   <li>
+     *     Content-Encoding: {@code gzip}, {@code x-gzip}, {@code deflate}
+     *     (zlib and raw) and {@code identity}
+     *   </li>
+     * </ul>
+     * Responses without body (status 1xx, 204, 304) result in an empty
+     * stream.
+     * @param  input    body of the response as stream
+     * @param  response parsed header of the response
+     * @return the decoded body as stream
+     * @throws IOException
+     *     In case of an unsupported encoding.
+     */
+    public static InputStream decode(InputStream input, Response response)
+            throws IOException {
+
+        Objects.requireNonNull(input, "Input stream required");
+        Objects.requireNonNull(response, "Response required");
+
+        int status = response.getStatus();
+        if ((status >= 100 && status < 200)
+                || status == 204
+                || status == 304)
+            return new ByteArrayInputStream(new byte[0]);
+
+        String[] codings = HttpUtils.splitCodings(response.getHeaders("Transfer-Encoding"));
+        if (codings.length > 0
+                && "chunked".equals(codings[codings.length -1])) {
+            input = new ChunkedInputStream(input);
+            codings = Arrays.copyOf(codings, codings.length -1);
+        } else if (response.getHeader(HeaderField.CONTENT_LENGTH) != null) {
+            try {input = new LimitedInputStream(input, Long.parseLong(response.getHeader(HeaderField.CONTENT_LENGTH)));
+            } catch (NumberFormatException exception) {
+                throw new IOException("Invalid Content-Length: " + response.getHeader(HeaderField.CONTENT_LENGTH));
+            }
+        }
+        for (int loop = codings.length -1; loop >= 0; loop--)
+            input = HttpUtils.decode(input, codings[loop]);
+
+        codings = HttpUtils.splitCodings(response.getHeaders("Content-Encoding"));
+        for (int loop = codings.length -1; loop >= 0; loop--)
+            input = HttpUtils.decode(input, codings[loop]);
+
+        return input;
+    }
+
+    /**
+     * Decodes a stream with the passed content coding.
+     * @param  input  stream to decode
+     * @param  coding content coding (lower case)
+     * @return the decoding stream
+     * @throws IOException
+     *     In case of an unsupported encoding.
+     */
+    private static InputStream decode(InputStream input, String coding)
+            throws IOException {
+
+        if ("identity".equals(coding))
+            return input;
+        if ("gzip".equals(coding)
+                || "x-gzip".equals(coding))
+            return new GZIPInputStream(input, 65535);
+        if (!"deflate".equals(coding))
+            throw new IOException("Unsupported encoding: " + coding);
+
+        //deflate should be zlib wrapped, but some servers send raw deflate
+        //data, the zlib header is detected by the compression method (8) and
+        //the checksum of the first two bytes
+        PushbackInputStream pushback = new PushbackInputStream(input, 2);
+        int cmf = pushback.read();
+        int flg = cmf < 0 ? -1 : pushback.read();
+        if (flg >= 0)
+            pushback.unread(flg);
+        if (cmf >= 0)
+            pushback.unread(cmf);
+        boolean zlib = cmf >= 0 && flg >= 0
+                && (cmf & 0x0F) == 8
+                && ((cmf << 8) | flg) % 31 == 0;
+        return new InflaterInputStream(pushback, new Inflater(!zlib), 65535);
+    }
+
+    /**
+     * Splits the values of the header fields for encodings into a list of
+     * codings in lower case.
+     * @param  values values of the header fields
+     * @return the codings in order of the header
+     */
+    private static String[] splitCodings(String[] values) {
+
+        List<String> codings = new ArrayList<>();
+        for (String value : values)
+            for (String coding : value.split(",")) {
+                coding = coding.trim().toLowerCase(Locale.ENGLISH);
+                if (!coding.isEmpty())
+                    codings.add(coding);
+            }
+        return codings.toArray(new String[0]);
+    }
+
+    /**
+     * Stream to decode the Transfer-Encoding chunked incrementally.
+     * The stream ends with the last chunk, trailing header fields are read
+     * and discarded. The underlying stream is not read beyond the chunked
+     * data, so it can be used with persistent connections.
+     */
+    public static class ChunkedInputStream extends FilterInputStream {
+
+        /** remaining bytes of the current chunk, -1 before the first chunk */
+        private long remain;
+
+        /** {@code true} if the last chunk has been read */
+        private boolean eof;
+
+        /**
+         * Constructor, creates a new ChunkedInputStream object.
+         * @param input stream with chunked data
+         */
+        public ChunkedInputStream(InputStream input) {
+            super(input);
+            this.remain = -1;
+        }
+
+        /**
+         * Reads a line of the chunked data without line break.
+         * @return the read line
+         * @throws IOException
+         *     In case of an unexpected end of the data stream.
+         */
+        private String readLine()
+                throws IOException {
+
+            StringBuilder builder = new StringBuilder();
+            for (int digit; (digit = this.in.read()) != '\n';) {
+                if (digit < 0)
+                    throw new EOFException("Unexpected end of chunked data");
+                if (digit != '\r')
+                    builder.append((char)digit);
+            }
+            return builder.toString();
+        }
+
+        /**
+         * Prepares the next chunk if the current chunk has been read.
+         * @return {@code false} if the last chunk has been read
+         * @throws IOException
+         *     In case of corrupt chunked data.
+         */
+        private boolean next()
+                throws IOException {
+
+            if (this.eof)
+                return false;
+            if (this.remain > 0)
+                return true;
+
+            //the line break at the end of the previous chunk
+            if (this.remain == 0
+                    && !this.readLine().isEmpty())
+                throw new IOException("Invalid chunked data");
+
+            String line = this.readLine();
+            int index = line.indexOf(';');
+            if (index >= 0)
+                line = line.substring(0, index);
+            try {this.remain = Long.parseLong(line.trim(), 16);
+            } catch (NumberFormatException exception) {
+                throw new IOException("Invalid chunk size: " + line);
+            }
+            if (this.remain < 0)
+                throw new IOException("Invalid chunk size: " + line);
+
+            if (this.remain == 0) {
+                while (!this.readLine().isEmpty())
+                    continue;
+                this.eof = true;
+                return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public int read()
+                throws IOException {
+
+            if (!this.next())
+                return -1;
+            int digit = this.in.read();
+            if (digit < 0)
+                throw new EOFException("Unexpected end of chunked data");
+            this.remain--;
+            return digit;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length)
+                throws IOException {
+
+            if (length == 0)
+                return 0;
+            if (!this.next())
+                return -1;
+            int size = this.in.read(bytes, offset, (int)Math.min(length, this.remain));
+            if (size < 0)
+                throw new EOFException("Unexpected end of chunked data");
+            this.remain -= size;
+            return size;
+        }
+
+        @Override
+        public long skip(long length)
+                throws IOException {
+
+            byte[] bytes = new byte[(int)Math.min(Math.max(length, 0), 8192)];
+            long volume = 0;
+            for (int size; volume < length
+                    && (size = this.read(bytes, 0, (int)Math.min(bytes.length, length -volume))) >= 0;)
+                volume += size;
+            return volume;
+        }
+
+        @Override
+        public int available()
+                throws IOException {
+
+            if (this.eof
+                    || this.remain <= 0)
+                return 0;
+            return (int)Math.min(this.in.available(), this.remain);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    /** Stream that limits the underlying stream to a number of bytes. */
+    private static class LimitedInputStream extends FilterInputStream {
+
+        /** remaining bytes */
+        private long remain;
+
+        /**
+         * Constructor, creates a new LimitedInputStream object.
+         * @param input  underlying stream
+         * @param length number of bytes
+         */
+        private LimitedInputStream(InputStream input, long length) {
+            super(input);
+            this.remain = Math.max(0, length);
+        }
+
+        @Override
+        public int read()
+                throws IOException {
+
+            if (this.remain <= 0)
+                return -1;
+            int digit = this.in.read();
+            if (digit >= 0)
+                this.remain--;
+            return digit;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length)
+                throws IOException {
+
+            if (length == 0)
+                return 0;
+            if (this.remain <= 0)
+                return -1;
+            int size = this.in.read(bytes, offset, (int)Math.min(length, this.remain));
+            if (size > 0)
+                this.remain -= size;
+            return size;
+        }
+
+        @Override
+        public long skip(long length)
+                throws IOException {
+
+            long size = this.in.skip(Math.min(length, this.remain));
+            this.remain -= size;
+            return size;
+        }
+
+        @Override
+        public int available()
+                throws IOException {
+            return (int)Math.min(this.in.available(), this.remain);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
     static String[] getResponseHeader(byte[] response, String... fields) {
-        return HttpUtils.getResponseHeader(new String(response), fields);
+        return HttpUtils.getResponseHeader(Response.parse(response), fields);
     }
-    
+
     static String[] getResponseHeader(String response, String... fields) {
+        return HttpUtils.getResponseHeader(HttpUtils.parseResponseHeader(response), fields);
+    }
+
+    private static String[] getResponseHeader(Response response, String... fields) {
 
-        String pattern = "";
         if (fields == null)
             fields = new String[0];
-        for (String field : fields)
-            pattern += "|\\Q" + field.trim() + "\\E";
-        if (!pattern.isEmpty())
-            pattern = pattern.substring(1);
-        
-        String[] headerLines = response.replaceAll("(?s)^[\r\n]+(.*?)\r\n\r\n.*$", "$1").split("[\r\n]+");
-        LinkedList<String> headerList = new LinkedList<>();
-        for (String header : headerLines) {
-            if (!pattern.isEmpty()
-                    && !header.matches("(?i)^(" + pattern + ").*$"))
-                continue;
-            headerList.add(header);
+        List<String> headerList = new ArrayList<>();
+        for (String header : response.lines) {
+            boolean match = fields.length <= 0;
+            for (int loop = 0; !match && loop < fields.length; loop++) {
+                String field = fields[loop].trim();
+                match = header.regionMatches(true, 0, field, 0, field.length());
+            }
+            if (match)
+                headerList.add(header);
         }
-        
+
         return headerList.toArray(new String[0]);
     }
 
+    /**
+     * Parses the status line and the header of a HTTP response as text.
+     * Only the header is converted into bytes, the body is ignored.
+     * @param  response response
+     * @return the parsed response
+     */
+    private static Response parseResponseHeader(String response) {
+
+        int start = 0;
+        while (start < response.length()
+                && (response.charAt(start) == '\r' || response.charAt(start) == '\n'))
+            start++;
+        int index = response.indexOf("\r\n\r\n", start);
+        if (index < 0)
+            index = response.indexOf("\n\n", start);
+        if (index >= 0)
+            response = response.substring(0, index);
+        return Response.parse(response.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
     /**
      * Returns the value of a header field.
+     * The field is compared case-insensitive as prefix of the header lines,
+     * the first matching line is used.
      * If the field does not exist, these methods return {@code null}.
      * @param  response response
      * @param  field    field
@@ -108,26 +742,33 @@ public class HttpUtils {
      */
     public static String getResponseHeaderValue(String response, String field) {
         
-        String[] fields = HttpUtils.getResponseHeader(response, field);
-        if (fields.length <= 0)
+        String[] headers = HttpUtils.getResponseHeader(HttpUtils.parseResponseHeader(response), field);
+        if (headers.length <= 0)
             return null;
-        return fields[0].replaceAll("^[^:]+:\\s*(.*)\\s*$", "$1");
+        String header = headers[0];
+        int index = header.indexOf(':');
+        if (index <= 0)
+            return header;
+        for (index++; index < header.length() && Character.isWhitespace(header.charAt(index));)
+            index++;
+        return header.substring(index);
     }
-    
+
     /**
      * Checks exists one or a set of response header fields.
+     * The fields are compared case-insensitive as prefix of the header lines.
      * @param  response response
      * @param  fields   fields
      * @return {@code true} if all passed fields exists
      */
     public static boolean exitsResponseHeader(String response, String... fields) {
         
-        if (fields == null)
-            fields = new String[0];
-        if (fields.length <= 0)
+        if (fields == null
+                || fields.length <= 0)
             return false;
+        Response header = HttpUtils.parseResponseHeader(response);
         for (String field : fields)
-            if (HttpUtils.getResponseHeader(response, field).length <= 0)
+            if (HttpUtils.getResponseHeader(header, field).length <= 0)
                 return false;
         return true;
     }
@@ -362,16 +1003,107 @@ public class HttpUtils {
             throw new IllegalArgumentException("Invalid connection string: " + address + ", expected <host>:<port>");
     
         try (Socket socket = HttpUtils.createSocket(address, keystore, timeout)) {
-            if (request != null) {
-                OutputStream output = socket.getOutputStream();
-                output.write(request.getBytes());
-                output.flush();
-                if (data != null)
-                    StreamUtils.transmit(data, output);
-            }
+            HttpUtils.sendRequest(socket, request, data);
             return StreamUtils.read(socket.getInputStream());   
         }
     }
+
+    /**
+     * Writes the request and the optional data to the connection.
+     * @param  socket  connection
+     * @param  request request
+     * @param  data    data
+     * @throws IOException
+     *     In case of faulty data access.
+     */
+    private static void sendRequest(Socket socket, String request, InputStream data)
+            throws IOException {
+
+        if (request == null)
+            return;
+        OutputStream output = socket.getOutputStream();
+        output.write(request.getBytes());
+        output.flush();
+        if (data != null)
+            StreamUtils.transmit(data, output);
+    }
+
+    /**
+     * Sends a HTTP request to a server and transmits the decoded body of the
+     * response to the passed output stream. Transfer and content encodings
+     * are decoded on the fly, see {@link #decode(InputStream, Response)}.
+     * @param  address address
+     * @param  request request
+     * @param  output  output stream for the decoded body
+     * @return the parsed header of the response without body
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public static Response transmit(String address, String request, OutputStream output)
+            throws IOException, GeneralSecurityException {
+        return HttpUtils.transmit(address, request, null, null, 65535, output);
+    }
+
+    /**
+     * Sends a HTTP request to a server and transmits the decoded body of the
+     * response to the passed output stream. Transfer and content encodings
+     * are decoded on the fly, see {@link #decode(InputStream, Response)}.
+     * @param  address  address
+     * @param  request  request
+     * @param  keystore keystore
+     * @param  timeout  timeout
+     * @param  output   output stream for the decoded body
+     * @return the parsed header of the response without body
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public static Response transmit(String address, String request, Keystore keystore, int timeout, OutputStream output)
+            throws IOException, GeneralSecurityException {
+        return HttpUtils.transmit(address, request, null, keystore, timeout, output);
+    }
+
+    /**
+     * Sends a HTTP request to a server and transmits the decoded body of the
+     * response to the passed output stream. Transfer and content encodings
+     * are decoded on the fly, see {@link #decode(InputStream, Response)}.
+     * @param  address  address
+     * @param  request  request
+     * @param  data     data
+     * @param  keystore keystore
+     * @param  timeout  timeout
+     * @param  output   output stream for the decoded body
+     * @return the parsed header of the response without body
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public static Response transmit(String address, String request, InputStream data, Keystore keystore, int timeout, OutputStream output)
+            throws IOException, GeneralSecurityException {
+
+        if (!address.matches(Pattern.NETWORK_CONNECTION))
+            throw new IllegalArgumentException("Invalid connection string: " + address + ", expected <host>:<port>");
+        Objects.requireNonNull(output, "Output stream required");
+
+        try (Socket socket = HttpUtils.createSocket(address, keystore, timeout)) {
+            HttpUtils.sendRequest(socket, request, data);
+
+            InputStream input = new BufferedInputStream(socket.getInputStream(), 65535);
+            ByteArrayOutputStream header = new ByteArrayOutputStream();
+            for (int digit, empty = 0; empty < 2 && (digit = input.read()) >= 0;) {
+                header.write(digit);
+                if (digit == '\n')
+                    empty++;
+                else if (digit != '\r')
+                    empty = 0;
+            }
+
+            Response response = Response.parse(header.toByteArray());
+            if (request != null
+                    && request.regionMatches(true, 0, "HEAD ", 0, 5))
+                return response;
+            StreamUtils.transmit(HttpUtils.decode(input, response), output);
+            return response;
+        }
+    }
     
     /** Interface to implements RequestEvent. */
     public interface RequestEvent {
@@ -451,16 +1183,71 @@ public class HttpUtils {
             }
         }
 
-        /** Digest Authentication */
+        /**
+         * Digest Authentication.
+         * The last challenges of the servers are cached per instance (address
+         * and realm), so that repeated requests with the same instance
+         * authenticate preemptively in one round trip. A new instance always
+         * starts without cached challenges.
+         */
         public static class Digest extends Authentication {
             
+            /** maximum number of cached challenges and realms */
+            private static final int CACHE_LIMIT = 256;
+            
+            /** cached challenges per address and realm */
+            private final Map<String, DigestAuthenticate> challenges;
+            
+            /** cached realms per address and directory of the URI */
+            private final Map<String, String> realms;
+            
             /** 
              * Constructor, creates a new Digest Authentication.
              * @param user     user
              * @param password password
              */
             public Digest(String user, String password) {
+                
                 super(user, password);
+                
+                this.challenges = new ConcurrentHashMap<>();
+                this.realms     = new ConcurrentHashMap<>();
+            }
+            
+            /** Discards the cached challenges and realms. */
+            public void reset() {
+                
+                this.challenges.clear();
+                this.realms.clear();
+            }
+            
+            /**
+             * Caches a challenge for an address and the directory of the URI.
+             * If the limit is exceeded, the cache is discarded beforehand.
+             * @param address   address
+             * @param space     address and directory of the URI
+             * @param challenge challenge
+             */
+            private void cache(String address, String space, DigestAuthenticate challenge) {
+                
+                if (this.challenges.size() >= Digest.CACHE_LIMIT
+                        || this.realms.size() >= Digest.CACHE_LIMIT)
+                    this.reset();
+                this.challenges.put(address + " " + challenge.realm, challenge);
+                this.realms.put(space, challenge.realm);
+            }
+            
+            /**
+             * Returns the cached challenge for an address and the directory
+             * of the URI.
+             * @param  address address
+             * @param  space   address and directory of the URI
+             * @return the cached challenge, otherwise {@code null}
+             */
+            private DigestAuthenticate lookup(String address, String space) {
+                
+                String realm = this.realms.get(space);
+                return realm != null ? this.challenges.get(address + " " + realm) : null;
             }
         }
     }
@@ -479,79 +1266,157 @@ public class HttpUtils {
         return HttpUtils.sendRequest(address, request, authentication, null);
     }
     
+    /**
+     * Digest challenge of a server (WWW-Authenticate) with the nonce count
+     * for the reuse of the nonce.
+     */
     private static class DigestAuthenticate {
-        
+
         private String realm;
         private String qop;
         private String nonce;
         private String opaque;
-        private String nc;
-        private String cnonce;
-        
-        private static DigestAuthenticate create(String header)
-                throws NoSuchAlgorithmException {
-
-            String authenticate = header.replaceAll("(?si)^.*\r\n(WWW-Authenticate: Digest [^\r\n]+).*$", "$1");
-            String algorithm = authenticate.replaceAll("(?i).* algorithm=\"([^\"]+).*$", "$1");
-            MessageDigest secure = MessageDigest.getInstance(algorithm);
-            DigestAuthenticate digestAuthenticate = new DigestAuthenticate();
-            digestAuthenticate.realm  = authenticate.replaceAll("(?i).* realm=\"([^\"]*).*$", "$1");
-            digestAuthenticate.qop    = authenticate.replaceAll("(?i).* qop=\"([^\"]*).*$", "$1");
-            digestAuthenticate.nonce  = authenticate.replaceAll("(?i).* nonce=\"([^\"]*).*$", "$1");
-            digestAuthenticate.opaque = authenticate.replaceAll("(?i).* opaque=\"([^\"]*).*$", "$1");
-            digestAuthenticate.nc     = "00000001";
-            digestAuthenticate.cnonce = new Date().toString();
-            digestAuthenticate.cnonce = Codec.encodeHex(secure.digest(digestAuthenticate.cnonce.getBytes()));            
-
-            return digestAuthenticate;
+        private boolean stale;
+
+        /** nonce count of the last authorization with the nonce */
+        private AtomicInteger counter;
+
+        /**
+         * Creates a DigestAuthenticate from the header of a response.
+         * @param  response parsed response
+         * @return the created DigestAuthenticate, otherwise {@code null} if
+         *         the response contains no Digest challenge
+         */
+        private static DigestAuthenticate create(Response response) {
+
+            for (String authenticate : response.getHeaders(HeaderField.WWW_AUTHENTICATE)) {
+                if (!authenticate.regionMatches(true, 0, "Digest ", 0, 7))
+                    continue;
+                Map<String, String> parameters = DigestAuthenticate.parseParameters(authenticate.substring(7));
+                if (!parameters.containsKey("nonce"))
+                    continue;
+                DigestAuthenticate digestAuthenticate = new DigestAuthenticate();
+                digestAuthenticate.realm   = parameters.getOrDefault("realm", "");
+                digestAuthenticate.nonce   = parameters.get("nonce");
+                digestAuthenticate.opaque  = parameters.get("opaque");
+                digestAuthenticate.stale   = "true".equalsIgnoreCase(parameters.get("stale"));
+                digestAuthenticate.counter = new AtomicInteger();
+                String qop = parameters.get("qop");
+                if (qop != null)
+                    for (String entry : qop.split(","))
+                        if (("auth").equalsIgnoreCase(entry.trim()))
+                            digestAuthenticate.qop = "auth";
+                return digestAuthenticate;
+            }
+            return null;
         }
-        
+
+        /**
+         * Parses the parameters of a challenge ({@code name=value} and
+         * {@code name="value"} separated by commas).
+         * @param  challenge challenge without authentication scheme
+         * @return the parameters with names in lower case
+         */
+        private static Map<String, String> parseParameters(String challenge) {
+
+            Map<String, String> parameters = new HashMap<>();
+            int length = challenge.length();
+            for (int cursor = 0; cursor < length;) {
+                while (cursor < length
+                        && (challenge.charAt(cursor) == ',' || Character.isWhitespace(challenge.charAt(cursor))))
+                    cursor++;
+                int index = challenge.indexOf('=', cursor);
+                if (index < 0)
+                    break;
+                String name = challenge.substring(cursor, index).trim().toLowerCase(Locale.ENGLISH);
+                cursor = index +1;
+                StringBuilder value = new StringBuilder();
+                if (cursor < length
+                        && challenge.charAt(cursor) == '"') {
+                    for (cursor++; cursor < length && challenge.charAt(cursor) != '"'; cursor++) {
+                        if (challenge.charAt(cursor) == '\\'
+                                && cursor +1 < length)
+                            cursor++;
+                        value.append(challenge.charAt(cursor));
+                    }
+                    cursor++;
+                } else {
+                    for (; cursor < length && challenge.charAt(cursor) != ','; cursor++)
+                        value.append(challenge.charAt(cursor));
+                }
+                parameters.put(name, value.toString().trim());
+            }
+            return parameters;
+        }
+
+        /**
+         * Computes the MD5 hash of a text as hexadecimal string.
+         * @param  text text
+         * @return the MD5 hash as hexadecimal string
+         */
+        private static String hash(String text) {
+            return Codec.encodeHex(Codec.md5(text.getBytes()));
+        }
+
         /**
-         * Erstellt einen Authorization-Eintrag fuer den HTTP-Header zur
-         * Autorisierung per Digest.
-         * @param  header   HTTP-Header
-         * @param  method   HTTP-Methoden
+         * Creates an Authorization entry for the HTTP header for Digest
+         * authorization. Each call increments the nonce count.
+         * @param  method   HTTP method
          * @param  uri      URI
-         * @param  user     Benutzer
-         * @param  password Passwort
-         * @return der erstellte Authorization-Eintrag fuer den HTTP-Header
-         * @throws NoSuchAlgorithmException 
+         * @param  user     user
+         * @param  password password
+         * @return the created Authorization entry for the HTTP header
          */
-        private static String create(String header, String method, String uri, String user, String password)
-                throws NoSuchAlgorithmException {
-            
-            DigestAuthenticate digestAuthenticate;
-            MessageDigest      secure;
-            String             s1;
-            String             s2;
-            String             s3;
-            
-            secure = MessageDigest.getInstance("md5");
+        private String authorize(String method, String uri, String user, String password) {
+
+            String s1 = DigestAuthenticate.hash(user + ":" + this.realm + ":" + password);
+            String s2 = DigestAuthenticate.hash(method + ":" + uri);
+            String s3;
 
-            digestAuthenticate = DigestAuthenticate.create(header);
+            String nc = Integer.toHexString(this.counter.incrementAndGet());
+            nc = "00000000".substring(Math.min(8, nc.length())) + nc;
+            String cnonce = Long.toHexString(ThreadLocalRandom.current().nextLong());
 
-            s1 = user + ":" + digestAuthenticate.realm + ":" + password;
-            s1 = Codec.encodeHex(secure.digest(s1.getBytes()));
-            s2 = method + ":" + uri;
-            s2 = Codec.encodeHex(secure.digest(s2.getBytes()));
-            s3 = ":" + digestAuthenticate.nonce + ":" + digestAuthenticate.nc + ":" + digestAuthenticate.cnonce + ":" + digestAuthenticate.qop + ":";
-            s3 = Codec.encodeHex(secure.digest((s1 + s3 + s2).getBytes()));
+            if (this.qop != null)
+                s3 = DigestAuthenticate.hash(s1 + ":" + this.nonce + ":" + nc + ":" + cnonce + ":" + this.qop + ":" + s2);
+            else s3 = DigestAuthenticate.hash(s1 + ":" + this.nonce + ":" + s2);
 
-            return "Authorization: Digest username=\"" + user + "\""
-                   + ", algorithm=\"MD5\""
-                   + ", nc=\"00000001\""
-                   + ", qop=\"auth\""
-                   + ", uri=\"" + uri + "\""
-                   + ", nonce=\"" + digestAuthenticate.nonce + "\""
-                   + ", cnonce=\"" + digestAuthenticate.cnonce + "\""
-                   + ", response=\"" + s3 + "\""
-                   + ", opaque=\"" + digestAuthenticate.opaque + "\""
-                   + "\r\n";
+            StringBuilder authorization = new StringBuilder("Authorization: Digest username=\"").append(user).append("\"")
+                    .append(", realm=\"").append(this.realm).append("\"")
+                    .append(", algorithm=\"MD5\"");
+            if (this.qop != null)
+                authorization.append(", nc=\"").append(nc).append("\"")
+                        .append(", qop=\"").append(this.qop).append("\"")
+                        .append(", cnonce=\"").append(cnonce).append("\"");
+            authorization.append(", uri=\"").append(uri).append("\"")
+                    .append(", nonce=\"").append(this.nonce).append("\"")
+                    .append(", response=\"").append(s3).append("\"");
+            if (this.opaque != null)
+                authorization.append(", opaque=\"").append(this.opaque).append("\"");
+            return authorization.append("\r\n").toString();
         }
     }
-    
+
+    /**
+     * Inserts a header line at the end of the header of a request.
+     * @param  request request
+     * @param  header  header line incl. line break
+     * @return the extended request
+     */
+    private static String insertHeader(String request, String header) {
+
+        int index = request.indexOf("\r\n\r\n");
+        return request.substring(0, index +2) + header + request.substring(index +2);
+    }
+
     /**
      * Sends a HTTP request to a server.
+     * With Digest authentication, the last challenge of the server is cached
+     * in the Digest instance per address and realm, the realm is assigned to
+     * the directory of the URI. Repeated requests with the same instance then authenticate preemptively with the
+     * cached nonce and an incremented nonce count in one round trip. Only if
+     * the server rejects the nonce (e.g. stale), the request is repeated with
+     * the new challenge.
      * @param  address        address
      * @param  request        request
      * @param  authentication authentication
@@ -563,40 +1428,47 @@ public class HttpUtils {
     public static byte[] sendRequest(String address, String request, Authentication authentication, Keystore keystore)
             throws IOException, GeneralSecurityException {
         
-        String response;
-        String header;
-        
-        byte[] responseData;
-        
         if (authentication.user == null)
             authentication.user = "";
         if (authentication.password == null)
             authentication.password = "";
         
-        if (authentication instanceof Authentication.Digest) {
-         
-            responseData = HttpUtils.sendRequest(address, request, keystore);
-            response = new String(responseData);
-            header = response.replaceAll(Pattern.HTTP_RESPONSE, "$1");
-            if (!header.matches("(?si)^.*\r\nWWW-Authenticate: Digest .*$"))
-                return responseData;
-            
-            String method = request.split(" ")[0];
-            String uri    = request.split(" ")[1];
-            
-            int index = request.indexOf("\r\n\r\n");
-            request = request.substring(0, index +2)
-                    + DigestAuthenticate.create(header, method, uri, authentication.user, authentication.password)
-                    + request.substring(index);
-            
-        } else {
+        if (!(authentication instanceof Authentication.Digest))
+            return HttpUtils.sendRequest(address, HttpUtils.insertHeader(request, "Authorization: Basic "
+                    + Codec.encodeBase64(authentication.user + ":" + authentication.password) + "\r\n"), keystore);
 
-            int index = request.indexOf("\r\n\r\n");
-            request = request.substring(0, index +2)
-                    + "Authorization: Basic " + Codec.encodeBase64(authentication.user + ":" + authentication.password) + "\r\n"
-                    + request.substring(index);
-        }
-        
-        return HttpUtils.sendRequest(address, request, keystore);
+        String method = request.split(" ")[0];
+        String uri    = request.split(" ")[1];
+
+        //the protection space is the directory of the URI without query
+        String space = uri.replaceAll("[?#].*$", "");
+        space = address + " " + space.substring(0, space.lastIndexOf('/') +1);
+
+        Authentication.Digest digest = (Authentication.Digest)authentication;
+        DigestAuthenticate digestAuthenticate = digest.lookup(address, space);
+        byte[] responseData;
+        if (digestAuthenticate != null)
+            responseData = HttpUtils.sendRequest(address, HttpUtils.insertHeader(request,
+                    digestAuthenticate.authorize(method, uri, authentication.user, authentication.password)), keystore);
+        else responseData = HttpUtils.sendRequest(address, request, keystore);
+
+        Response response = Response.parse(responseData);
+        if (response.getStatus() != 401)
+            return responseData;
+        DigestAuthenticate challenge = DigestAuthenticate.create(response);
+        if (challenge == null)
+            return responseData;
+
+        //with a cached and still valid nonce, the credentials are rejected
+        //and a repetition is not necessary
+        if (digestAuthenticate != null
+                && !challenge.stale
+                && digestAuthenticate.realm.equals(challenge.realm)
+                && digestAuthenticate.nonce.equals(challenge.nonce))
+            return responseData;
+
+        digest.cache(address, space, challenge);
+        return HttpUtils.sendRequest(address, HttpUtils.insertHeader(request,
+                challenge.authorize(method, uri, authentication.user, authentication.password)), keystore);
     }
 }
\ No newline at end of file
@@ -4,7 +4,7 @@
  * Diese Software unterliegt der Version 2 der GNU General Public License.
  *
  * Seanox Test SDK
- * Copyright (C) 2018 Seanox Software Solutions
+ * Copyright (C) 2026 Seanox Software Solutions
  *
  * This program is free software; you can redistribute it and/or modify it
  * under the terms of version 2 of the GNU General Public License as published
@@ -24,7 +24,6 @@ package com.seanox.test.utils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -45,12 +44,12 @@ import java.util.List;
  * Furthermore, the name of a section can be extended by decimal numbers at
  * the end {@code #### <name>_<number>}. These are used as indexes.<br>
  * <br>
- * ResourceUtils 2.0 20180107<br>
- * Copyright (C) 2018 Seanox Software Solutions<br>
+ * ResourceUtils 2.1 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
  * All rights reserved.
  *
  * @author  Seanox Software Solutions
- * @version 2.0 20180107
+ * @version 2.1 20261019
  */
 public class ResourceUtils {
     
@@ -119,8 +118,7 @@ public class ResourceUtils {
         for (String line : content.split("[\r\n]+"))
             if (line.matches(filter))
                 contextList.add(line);
-        Collections.sort(contextList, TextUtils.NATURAL_COMPARATOR);
-        return contextList.toArray(new String[0]);
+        return TextUtils.sortNatural(contextList.toArray(new String[0]));
     }
     
     /**
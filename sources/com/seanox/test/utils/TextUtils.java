@@ -4,7 +4,7 @@
  * Diese Software unterliegt der Version 2 der GNU General Public License.
  *
  * Seanox Test SDK
- * Copyright (C) 2018 Seanox Software Solutions
+ * Copyright (C) 2026 Seanox Software Solutions
  *
  * This program is free software; you can redistribute it and/or modify it
  * under the terms of version 2 of the GNU General Public License as published
@@ -21,15 +21,26 @@
  */
 package com.seanox.test.utils;
 
+import java.io.FilterOutputStream;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 /**
  * Utilities for text and strings.
@@ -37,6 +48,7 @@ import java.util.regex.Pattern;
  * <h3>Features:</h3>
  * <ul>
  *   <li>Computation of phonetic values</li>
+ *   <li>Phonetic index</li>
  *   <li>Escaping and unescaping</li>
  *   <li>Decoration and undecoration of ISO control characters</li>
  *   <li>Natural sorting</li>
@@ -54,18 +66,68 @@ import java.util.regex.Pattern;
  *   </li>
  * </ul>
  * <br>
- * TextUtils 1.2 20180109<br>
- * Copyright (C) 2018 Seanox Software Solutions<br>
+ * TextUtils 1.3 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
  * All rights reserved.
  *
  * @author  Seanox Software Solutions
- * @version 1.2 20180109
+ * @version 1.3 20261019
  */
 public class TextUtils {
     
     /** Naturally sort comparator */
     public static final Comparator<String> NATURAL_COMPARATOR = new TextUtils.NaturalComparator();
     
+    /** ISO symbols of the control characters below ASCII 0x20 */
+    private static final String[] CONTROL_SYMBOLS = {"NUL", "SOH", "STX", "ETX", "EOT", "ENQ", "ACK", "BEL", "BS", "HT",
+            "LF", "VT", "FF", "CR", "SO", "SI", "DLE", "DC1", "DC2", "DC3", "DC4", "NAK", "SYN", "ETB", "CAN", "EM", "SUB",
+            "ESC", "FS", "GS", "RS", "US"};
+    
+    /** decorated control characters below ASCII 0x20 */
+    private static final String[] DECORATE = new String[0x20];
+    
+    /** decorated control characters below ASCII 0x20 as ASCII bytes */
+    private static final byte[][] DECORATE_BYTES = new byte[0x20][];
+    
+    /** precompiled replacer of the decorated control characters */
+    private static final Replacer UNDECORATE;
+    
+    /**
+     * phonetic groups (DE) of the characters a-z:
+     * 1: AU, 2: EIY, 3: BDPT, 4: CGJK, 5: FVW, 6: L, 7: MN, 9: SZ, H is ignored
+     */
+    private static final String PHONETIC_DE = "1343254 244677134893155929";
+    
+    /** hexadecimal digits of the escape */
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    
+    /** escape sequences of the characters 0x00-0xFF, {@code null} if unchanged */
+    private static final String[] ESCAPE = new String[256];
+    
+    /** characters of the escape sequences after the backslash, otherwise 0 */
+    private static final char[] UNESCAPE = new char[128];
+    
+    static {
+        
+        for (int code = 0; code < 256; code++)
+            if (code < 0x20 || code > 0x7F)
+                ESCAPE[code] = "\\" + ((code >> 6) & 0x7) + ((code >> 3) & 0x7) + (code & 0x7);
+        
+        String codex = "\b\t\n\f\r\"'\\btnfr\"'\\";
+        for (int loop = 0; loop < 8; loop++) {
+            ESCAPE[codex.charAt(loop)] = "\\" + codex.charAt(loop +8);
+            UNESCAPE[codex.charAt(loop +8)] = codex.charAt(loop);
+        }
+        
+        String[] replace = new String[TextUtils.CONTROL_SYMBOLS.length];
+        for (int loop = 0; loop < replace.length; loop++) {
+            DECORATE[loop] = ("[").concat(TextUtils.CONTROL_SYMBOLS[loop]).concat("]");
+            DECORATE_BYTES[loop] = DECORATE[loop].getBytes(StandardCharsets.US_ASCII);
+            replace[loop] = String.valueOf((char)loop);
+        }
+        UNDECORATE = Replacer.create(DECORATE, replace);
+    }
+    
     /** Constructor, creates a new TextUtils object. */
     private TextUtils() {
     }    
@@ -82,106 +144,133 @@ public class TextUtils {
      */
     public static String phonetic(String string, Locale locale) {
 
-        StringBuffer result;
-        String       digits;
-
-        byte[]       bytes;
-        int[]        codes;
-
-        int          sound;
-        int          loop ;
-
         Objects.requireNonNull(locale, "Locale required");
 
         if (string == null)
             return null;
 
-        //nicht unterstuetzte Sprachen fuehren zur IllegalArgumentException
+        //unsupported languages cause an IllegalArgumentException
         if (!Locale.GERMAN.getLanguage().equals(locale.getLanguage()))
             throw new IllegalArgumentException("Language not supported");
         
-        //der Datenpuffer wird eingerichtet
-        result = new StringBuffer();
-
-        //die Bytes des String werden ermitttelt
-        bytes = string.trim().toLowerCase().getBytes();
-
-        //das phonetische Muster wird eingerichtet (a-z)
-        //Gruppierung:
-        //  - 1 A: AU
-        //  - 2 I: EIY
-        //  - 3 P: BDPT  
-        //  - 4 K: CGJK
-        //  - 5 F: FVW
-        //  - 6 L: L
-        //  - 7 M: MN
-        //  - 8 H:  
-        //  - 9 Z: SZ
-        //        ABCDEFGHIJKLMNOPQRSTUVWXYZ
-        digits = "1343254 244677134893155929";
-
-        for (loop = 0; loop < bytes.length; loop++) {
+        return TextUtils.phonetic(string, new StringBuilder(string.length()));
+    }
+    
+    /**
+     * Determines the phonetic value of the string in the specified language
+     * into an {@link Appendable} (e.g. a reused {@link StringBuilder}).<br>
+     * Supported languages: DE
+     * @param  string string to be calculated
+     * @param  locale language
+     * @param  output output of the phonetic value
+     * @return the number of characters of the phonetic value
+     * @throws IllegalArgumentException
+     *     For an unsupported language / locale.
+     * @throws IOException
+     *     In case of faulty access to the output.
+     */
+    public static int phonetic(CharSequence string, Locale locale, Appendable output)
+            throws IOException {
+        
+        Objects.requireNonNull(string, "String required");
+        Objects.requireNonNull(locale, "Locale required");
+        Objects.requireNonNull(output, "Output required");
+        
+        //unsupported languages cause an IllegalArgumentException
+        if (!Locale.GERMAN.getLanguage().equals(locale.getLanguage()))
+            throw new IllegalArgumentException("Language not supported");
+        
+        return TextUtils.phonetic(string, output);
+    }
+    
+    /**
+     * Determines the phonetic value (DE) of the string with a buffer.
+     * @param  string string to be calculated
+     * @param  buffer buffer to be used (will be reset)
+     * @return the determined phonetic value
+     */
+    private static String phonetic(CharSequence string, StringBuilder buffer) {
+        
+        buffer.setLength(0);
+        try {TextUtils.phonetic(string, (Appendable)buffer);
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+        return buffer.toString();
+    }
+    
+    /**
+     * Returns the lower case character of a position for the phonetic value.
+     * @param  string string
+     * @param  index  position
+     * @return the lower case character, outside of the string 0
+     */
+    private static int phoneticCode(CharSequence string, int index) {
+        
+        if (index >= string.length())
+            return 0;
+        return Character.toLowerCase(string.charAt(index));
+    }
+    
+    /**
+     * Determines the phonetic value (DE) of the string into an Appendable.
+     * Only a-z, , ,  and  are considered, repeated values are combined.
+     * @param  string string to be calculated
+     * @param  output output of the phonetic value
+     * @return the number of characters of the phonetic value
+     * @throws IOException
+     *     In case of faulty access to the output.
+     */
+    private static int phonetic(CharSequence string, Appendable output)
+            throws IOException {
+        
+        int length = string.length();
+        int count  = 0;
+        int last   = -1;
+        for (int loop = 0; loop < length; loop++) {
             
-            sound = -1;
-
-            //zur Analyse werden die aktuellen 3 Zeichen ermittelt
-            codes = new int[3];
-            if (bytes.length > loop +0)
-                codes[0] = bytes[loop +0] & 0xFF;
-            if (bytes.length > loop +1)
-                codes[1] = bytes[loop +1] & 0xFF;
-            if (bytes.length > loop +2)
-                codes[2] = bytes[loop +2] & 0xFF;
-
-            //zur Berechnung des phonetischen Werts werden nur a-z(h),,ae,oe,ue beruecksichtigt
-            if ((codes[0] < 0x61 || codes[0] > 0x7A)
-                    && codes[0] != 0x68 && codes[0] != 0xDF && codes[0] != 0xE4 && codes[0] != 0xF6 && codes[0] != 0xFC)
+            int code = Character.toLowerCase(string.charAt(loop));
+            if ((code < 'a' || code > 'z')
+                    && code != 0xDF && code != 0xE4 && code != 0xF6 && code != 0xFC)
                 continue;
-
-            //phonetische Regel - folgt auf aou eiy wird daraus Gruppe 2
-            if ((codes[0] == 0x61 || codes[0] == 0x6F || codes[0] == 0x75)
-                    && (codes[1] == 0x65 || codes[1] == 0x69 || codes[1] == 0x79)) {
+            int next = TextUtils.phoneticCode(string, loop +1);
+            
+            int sound;
+            if ((code == 'a' || code == 'o' || code == 'u')
+                    && (next == 'e' || next == 'i' || next == 'y')) {
+                //aou followed by eiy becomes group 2 (both characters)
                 sound = '2';
                 loop++;
-            }
-
-            //Phonetische Regeln:
-            //folgt auf s c h wird daraus Gruppe 0
-            if (sound < 0 && codes[0] == 0x73 &&  codes[1] == 0x63 && codes[2] == 0x68) sound = '0';
-            //aeoeue entsprechen der Gruppe 2
-            if (sound < 0 && codes[0] == 0xE4 ||  codes[0] == 0xF6 || codes[0] == 0xFC) sound = '2';
-            //folgt auf s tp wird daraus Gruppe 0
-            if (sound < 0 && codes[0] == 0x73 && (codes[1] == 0x70 || codes[1] == 0x74)) sound = '0';
-            //folgt auf c h wird daraus Gruppe 0
-            if (sound < 0 && codes[0] == 0x63 &&  codes[1] == 0x68) sound = '0';
-            //folgt auf p fh wird daraus Gruppe 5
-            if (sound < 0 && codes[0] == 0x70 && (codes[1] == 0x66 || codes[1] == 0x68)) sound = '5';
-            //ss entspricht der Gruppe 9
-            if (sound < 0 && codes[0] == 0xDF) sound = '9';
+            } else if (code == 's' && next == 'c'
+                    && TextUtils.phoneticCode(string, loop +2) == 'h') {
+                //s followed by ch becomes group 0
+                sound = '0';
+            } else if (code == 0xE4 || code == 0xF6 || code == 0xFC) {
+                //   correspond to group 2
+                sound = '2';
+            } else if (code == 's' && (next == 'p' || next == 't')) {
+                //s followed by tp becomes group 0
+                sound = '0';
+            } else if (code == 'c' && next == 'h') {
+                //c followed by h becomes group 0
+                sound = '0';
+            } else if (code == 'p' && (next == 'f' || next == 'h')) {
+                //p followed by fh becomes group 5
+                sound = '5';
+            } else if (code == 0xDF) {
+                // corresponds to group 9
+                sound = '9';
+            } else sound = TextUtils.PHONETIC_DE.charAt(code -'a');
 
-            //der phonetische Wert wird ohne Doppelwerte erweitert (12221 -> 121)
-            if (sound >= 0) {
-                if (result.length() <= 0
-                        || sound != result.charAt(result.length() -1))
-                    if (sound != ' ')
-                        result.append((char)sound);
+            //the phonetic value is extended without repetitions (12221 -> 121)
+            if (sound == ' '
+                    || sound == last)
                 continue;
-            }
-
-            //der phonetische Wert wird ermittelt
-            if ((codes[0] -= 0x60) > 0
-                    && codes[0] <= digits.length())
-                sound = digits.charAt(codes[0] -1);
-
-            //der phonetische Wert wird ohne Doppelwerte erweitert (12221 -> 121)
-            if (sound >= 0)
-                if (result.length() <= 0
-                        || sound != result.charAt(result.length() -1))
-                    if (sound != ' ')
-                        result.append((char)sound);
+            output.append((char)sound);
+            last = sound;
+            count++;
         }
-
-        return result.toString();
+        return count;
     }    
     
     /**
@@ -228,64 +317,111 @@ public class TextUtils {
      */
     public static String unescape(String string) {
         
-        byte[] bytes;
-        byte[] codex;
-
-        int    code;
-        int    count;
-        int    cache;
-        int    index;
-        int    length;
-        int    loop;
-        
         if (string == null)
             return null;
         
-        codex = ("\"'\\bfnrt\"'\\\b\f\n\r\t").getBytes();
+        //without backslash the string is returned unchanged
+        int index = string.indexOf('\\');
+        if (index < 0)
+            return string;
+        
+        StringBuilder builder = new StringBuilder(string.length());
+        builder.append(string, 0, index);
+        try {TextUtils.unescape(string, index, builder);
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Decodes all escape sequences ({@code \b \t \n \f \r \" \' \\}), three
+     * bytes of octal escape sequences ({@code \000-\377}) and four bytes
+     * hexadecimal ({@code \u0000-\uFFFF}) after a backslash into an
+     * {@link Appendable} (e.g. {@link StringBuilder}, {@link java.nio.CharBuffer},
+     * {@link java.io.Writer}).
+     * The method works tollerant and keeps incorrect sequences.
+     * @param  string string to be decoded 
+     * @param  output output of the decoded string
+     * @throws IOException
+     *     In case of faulty access to the output.
+     */
+    public static void unescape(CharSequence string, Appendable output)
+            throws IOException {
         
-        length = string.length();
-        bytes  = new byte[length *2];
+        Objects.requireNonNull(string, "String required");
+        Objects.requireNonNull(output, "Output required");
+        TextUtils.unescape(string, 0, output);
+    }
+
+    /**
+     * Decodes the escape sequences of a string from an offset.
+     * @param  string string to be decoded 
+     * @param  offset offset in the string
+     * @param  output output of the decoded string
+     * @throws IOException
+     *     In case of faulty access to the output.
+     */
+    private static void unescape(CharSequence string, int offset, Appendable output)
+            throws IOException {
         
-        for (loop = count = 0; loop < length; loop++) {
+        int length = string.length();
+        int start = offset;
+        for (int loop = offset; loop < length; loop++) {
             
-            code = string.charAt(loop);
-
-            if (code == '\\') {
-                if (loop +1 < length) {
-                    index = Arrays.binarySearch(codex, (byte)string.charAt(loop +1));
-                    if (index >= 0 && index < 8) {
-                        code = codex[index +8];                    
-                        loop += 1;
-                    } else if (loop +5 < length
-                            && string.charAt(loop +1) == 'u') {
-                        loop += 5;
-                        try {
-                            index = Integer.parseInt(string.substring(loop -4, loop), 16);
-                            if (index > 0xFF)
-                                bytes[count++] = (byte)((index >>> 8) & 0xFF);
-                            bytes[count++] = (byte)(index & 0xFF);
-                            continue;
-                        } catch (NumberFormatException exception) {
-                            loop -= 5;
-                        }
-                    } else {
-                        for (cache = index = 0; index < 3 && loop +1 < length; index++) {
-                            if (string.charAt(loop +1) < '0'
-                                    || string.charAt(loop +1) > '7'
-                                    || (cache << 3) +string.charAt(loop +1) - '0' > 0xFF)
-                                break;
-                            cache = (cache << 3) +string.charAt(loop +1) - '0';
-                            code  = cache;
-                            loop++;
-                        }
-                    }
+            if (string.charAt(loop) != '\\')
+                continue;
+            output.append(string, start, loop);
+            start = loop +1;
+            if (loop +1 >= length) {
+                output.append('\\');
+                continue;
+            }
+            
+            char digit = string.charAt(loop +1);
+            char code = digit < 0x80 ? TextUtils.UNESCAPE[digit] : 0;
+            int value = digit == 'u' && loop +5 < length ? TextUtils.decodeHex(string, loop +2) : -1;
+            if (code != 0) {
+                output.append(code);
+                start = ++loop +1;
+            } else if (value >= 0) {
+                output.append((char)value);
+                loop += 5;
+                start = loop +1;
+            } else {
+                int cache = 0;
+                int index = 0;
+                for (; index < 3 && loop +1 < length; index++) {
+                    digit = string.charAt(loop +1);
+                    if (digit < '0' || digit > '7'
+                            || (cache << 3) +digit -'0' > 0xFF)
+                        break;
+                    cache = (cache << 3) +digit -'0';
+                    loop++;
                 }
+                output.append(index > 0 ? (char)cache : '\\');
+                start = loop +1;
             }
-
-            bytes[count++] = (byte)code;
         }
+        output.append(string, start, length);
+    }
+    
+    /**
+     * Decodes four hexadecimal digits.
+     * @param  string string
+     * @param  offset offset of the digits
+     * @return the decoded value, otherwise -1
+     */
+    private static int decodeHex(CharSequence string, int offset) {
         
-        return new String(Arrays.copyOfRange(bytes, 0, count));
+        int value = 0;
+        for (int loop = offset; loop < offset +4; loop++) {
+            int digit = Character.digit(string.charAt(loop), 16);
+            if (digit < 0)
+                return -1;
+            value = (value << 4) | digit;
+        }
+        return value;
     }
 
     /**
@@ -303,50 +439,86 @@ public class TextUtils {
      */
     public static String escape(String string) {
         
-        byte[] codex;
-        byte[] codec;
-        byte[] cache;
-
-        int    code;
-        int    count;
-        int    cursor;
-        int    length;
-        int    loop;
-        
         if (string == null)
             return null;   
         
-        length = string.length();
+        //without characters to be escaped the string is returned unchanged
+        int length = string.length();
+        int index = 0;
+        while (index < length
+                && !TextUtils.isEscape(string.charAt(index)))
+            index++;
+        if (index >= length)
+            return string;
         
-        cache = new byte[length *6];
+        StringBuilder builder = new StringBuilder(length +16);
+        builder.append(string, 0, index);
+        try {TextUtils.escape(string, index, builder);
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Encodes the control characters: BS, HT, LF, FF, CR, ', ", \ and all
+     * characters outside the ASCII range 0x20-0x7F into an {@link Appendable}
+     * (e.g. {@link StringBuilder}, {@link java.nio.CharBuffer},
+     * {@link java.io.Writer}). The escape is the same as with
+     * {@link #escape(String)}.
+     * @param  string string to be escaped
+     * @param  output output of the escaped string
+     * @throws IOException
+     *     In case of faulty access to the output.
+     */
+    public static void escape(CharSequence string, Appendable output)
+            throws IOException {
         
-        codex = ("\b\t\n\f\r\"'\\btnfr\"'\\").getBytes();
-        codec = ("0123456789ABCDEF").getBytes();
+        Objects.requireNonNull(string, "String required");
+        Objects.requireNonNull(output, "Output required");
+        TextUtils.escape(string, 0, output);
+    }
+    
+    /**
+     * Checks whether a character has to be escaped.
+     * @param  code character
+     * @return {@code true} if the character has to be escaped
+     */
+    private static boolean isEscape(char code) {
+        return code > 0xFF || TextUtils.ESCAPE[code] != null;
+    }
+
+    /**
+     * Encodes the characters of a string from an offset.
+     * Unchanged characters are appended as sections.
+     * @param  string string to be escaped
+     * @param  offset offset in the string
+     * @param  output output of the escaped string
+     * @throws IOException
+     *     In case of faulty access to the output.
+     */
+    private static void escape(CharSequence string, int offset, Appendable output)
+            throws IOException {
         
-        for (loop = count = 0; loop < length; loop++) {
-            
-            code = string.charAt(loop);
-            
-            cursor = Arrays.binarySearch(codex, (byte)code);
-            if (cursor >= 0 && cursor < 8) {
-                cache[count++] = '\\';
-                cache[count++] = codex[cursor +8];
-            } else if (code > 0xFF) {
-                cache[count++] = '\\';
-                cache[count++] = 'u';
-                cache[count++] = codec[(code >> 16) & 0xF];
-                cache[count++] = codec[(code >>  8) & 0xF];
-                cache[count++] = codec[(code >>  4) & 0xF];
-                cache[count++] = codec[(code & 0xF)];                
-            } else if (code < 0x20 || code > 0x7F) {
-                cache[count++] = '\\';
-                cache[count++] = (byte)(0x30 +((code >> 6) & 0x7));
-                cache[count++] = (byte)(0x30 +((code >> 3) & 0x7));
-                cache[count++] = (byte)(0x30 +(code & 0x7));
-            } else cache[count++] = (byte)code;
-        }
-        
-        return new String(Arrays.copyOfRange(cache, 0, count));          
+        int length = string.length();
+        int start = offset;
+        for (int loop = offset; loop < length; loop++) {
+            char code = string.charAt(loop);
+            if (!TextUtils.isEscape(code))
+                continue;
+            output.append(string, start, loop);
+            start = loop +1;
+            if (code <= 0xFF) {
+                output.append(TextUtils.ESCAPE[code]);
+                continue;
+            }
+            output.append('\\').append('u')
+                .append(TextUtils.HEX[(code >> 12) & 0xF])
+                .append(TextUtils.HEX[(code >>  8) & 0xF])
+                .append(TextUtils.HEX[(code >>  4) & 0xF])
+                .append(TextUtils.HEX[code & 0xF]);
+        }
+        output.append(string, start, length);
     }
     
     /**
@@ -359,11 +531,6 @@ public class TextUtils {
      */
     public static String replace(String string, String search, String replace) {
 
-        String result;
-        String buffer;
-
-        int    cursor;
-        
         if (string == null)
             return null;         
         
@@ -374,24 +541,32 @@ public class TextUtils {
         if (replace == null)
             return string;
 
-        buffer = string.toLowerCase();
-        search = search.toLowerCase();
-
-        result = "";
-        while ((cursor = buffer.indexOf(search)) >= 0) {
-            result = result.concat(string.substring(0, cursor)).concat(replace);
-            string = string.substring(cursor +search.length());
-            buffer = buffer.substring(cursor +search.length());
-        }
-
-        if (string.length() > 0)
-            result = result.concat(string);
+        return Replacer.create(new String[] {search}, new String[] {replace}).replace(string);
+    }    
+    
+    /**
+     * Replaces multiple search strings case-insensitive in one pass.
+     * At each position the longest search string is replaced, replacements
+     * are not searched again. For repeated use, a precompiled
+     * {@link Replacer} is recommended.
+     * If {@code null} is passed, {@code null} is returned.
+     * @param  string  string to search through
+     * @param  search  search strings
+     * @param  replace strings to be replaced (in order of the search strings)
+     * @return the replaced string
+     * @throws IllegalArgumentException
+     *     In case of invalid or different numbers of search and replace
+     *     strings.
+     */
+    public static String replace(String string, String[] search, String[] replace) {
 
-        return result;
+        if (string == null)
+            return null;         
+        return Replacer.create(search, replace).replace(string);
     }    
     
     /**
-     * All control characters below ASCII 0x32 are escaped as ISO symbols.
+     * All control characters below ASCII 0x20 are escaped as ISO symbols.
      * If {@code null} is passed, {@code null} is returned.
      * @param  string string to decorate
      * @return der decorated string
@@ -401,17 +576,87 @@ public class TextUtils {
         if (string == null)
             return null;
 
+        //without control characters the string is returned unchanged
         int index = 0;
-        for (String decor : new String[] {"NUL", "SOH", "STX", "ETX", "EOT", "ENQ", "ACK", "BEL", "BS", "HT", "LF", "VT",
-                "FF", "CR", "SO", "SI", "DLE", "DC1", "DC2", "DC3", "DC4", "NAK", "SYN", "ETB", "CAN", "EM", "SUB", "ESC",
-                "FS", "GS", "RS", "US"})
-            string = string.replace(String.valueOf((char)index++), ("[").concat(decor).concat("]"));
-
-        return string;
+        while (index < string.length()
+                && string.charAt(index) >= 0x20)
+            index++;
+        if (index >= string.length())
+            return string;
+        
+        StringBuilder builder = new StringBuilder(string.length() +16);
+        builder.append(string, 0, index);
+        try {TextUtils.decorate(string, index, builder);
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+        return builder.toString();
+    }
+    
+    /**
+     * All control characters below ASCII 0x20 are escaped as ISO symbols
+     * into an {@link Appendable} (e.g. {@link StringBuilder},
+     * {@link java.io.Writer}).
+     * @param  string string to decorate
+     * @param  output output of the decorated string
+     * @throws IOException
+     *     In case of faulty access to the output.
+     */
+    public static void decorate(CharSequence string, Appendable output)
+            throws IOException {
+        
+        Objects.requireNonNull(string, "String required");
+        Objects.requireNonNull(output, "Output required");
+        TextUtils.decorate(string, 0, output);
+    }
+    
+    /**
+     * Decorates the control characters of a string from an offset.
+     * Unchanged characters are appended as sections.
+     * @param  string string to decorate
+     * @param  offset offset in the string
+     * @param  output output of the decorated string
+     * @throws IOException
+     *     In case of faulty access to the output.
+     */
+    private static void decorate(CharSequence string, int offset, Appendable output)
+            throws IOException {
+        
+        int length = string.length();
+        int start = offset;
+        for (int loop = offset; loop < length; loop++) {
+            char code = string.charAt(loop);
+            if (code >= 0x20)
+                continue;
+            output.append(string, start, loop).append(TextUtils.DECORATE[code]);
+            start = loop +1;
+        }
+        output.append(string, start, length);
+    }
+    
+    /**
+     * Creates an output stream that escapes all control characters below
+     * ASCII 0x20 as ISO symbols while writing. The bytes of ASCII compatible
+     * encodings (e.g. ISO-8859-x, UTF-8) are supported.
+     * @param  output output stream for the decorated data
+     * @return the decorating output stream
+     */
+    public static OutputStream decorate(OutputStream output) {
+        return new DecorateOutputStream(output);
     }
     
     /**
-     * All ISO symbols of control characters below ASCII 0x32 are unescaped.
+     * Creates a writer that escapes all control characters below ASCII 0x20
+     * as ISO symbols while writing.
+     * @param  writer writer for the decorated text
+     * @return the decorating writer
+     */
+    public static Writer decorate(Writer writer) {
+        return new DecorateWriter(writer);
+    }
+    
+    /**
+     * All ISO symbols of control characters below ASCII 0x20 are unescaped.
      * If {@code null} is passed, {@code null} is returned.
      * @param  string string to decorate
      * @return der decorated string
@@ -421,13 +666,7 @@ public class TextUtils {
         if (string == null)
             return null;
 
-        int index = 0;
-        for (String decor : new String[] {"NUL", "SOH", "STX", "ETX", "EOT", "ENQ", "ACK", "BEL", "BS", "HT", "LF", "VT",
-                "FF", "CR", "SO", "SI", "DLE", "DC1", "DC2", "DC3", "DC4", "NAK", "SYN", "ETB", "CAN", "EM", "SUB", "ESC",
-                "FS", "GS", "RS", "US"})
-            string = TextUtils.replace(string, ("[").concat(decor).concat("]"), String.valueOf((char)index++));
-
-        return string;
+        return TextUtils.UNDECORATE.replace(string);
     }
     
     /**
@@ -461,6 +700,8 @@ public class TextUtils {
 
     /**
      * Natural sorting of strings with alphanumeric content.
+     * The sort keys are computed once per string, large arrays are sorted in
+     * parallel. The order is the same as with {@link #NATURAL_COMPARATOR}.
      * @param  strings array to sort
      * @return natural sorted string
      */
@@ -469,41 +710,599 @@ public class TextUtils {
         if (strings == null)
             return null;
         
-        List<String> stringList = Arrays.asList(strings);
-        Collections.sort(stringList, NATURAL_COMPARATOR);
-        return stringList.toArray(new String[0]);
+        String[][] entries = new String[strings.length][];
+        for (int loop = 0; loop < strings.length; loop++)
+            entries[loop] = new String[] {NaturalComparator.normalize(strings[loop]), strings[loop]};
+        Arrays.parallelSort(entries, (entry1, entry2) -> entry1[0].compareTo(entry2[0]));
+        for (int loop = 0; loop < strings.length; loop++)
+            strings[loop] = entries[loop][1];
+        return strings.clone();
     }
     
-    /** Naturally sort comparator */
+    /**
+     * Naturally sort comparator.
+     * The strings are compared trimmed, with numeric fragments normalized by
+     * the prefix of their length (base 36) and without leading zeros, so that
+     * numbers are sorted by value. The comparison works character by
+     * character on the virtually normalized strings without allocation.
+     */
     private static class NaturalComparator implements Comparator<String> {
         
+        /** digits of the largest numeric fragment that is normalized */
+        private static final String LONG_MAX = String.valueOf(Long.MAX_VALUE);
+        
+        /** flag of the state: inside a numeric fragment */
+        private static final long STATE_NUMBER = 1L << 32;
+        
+        /** flag of the result: end of the string */
+        private static final long STATE_END = 1L << 50;
+        
         /**
          * Normalizes the numeric fragments that they can be sorted.
-         * @param  string string to be escaped
+         * @param  string string to be normalized
          * @return the normalized string
          */
         private static String normalize(String string) {
             
-            string = TextUtils.trim(string);
-            String buffer = "";
-            for (String fragment : string.split("(?:(?<=\\d)(?!\\d))|(?:(?<!\\d)(?=\\d))")) {
-                try {
-                    fragment = Long.valueOf(fragment).toString();
-                    fragment = Long.toString(fragment.length(), 36).toUpperCase() + fragment;
-                } catch (NumberFormatException exception) {
+            if (string == null)
+                string = "";
+            int end = NaturalComparator.end(string);
+            StringBuilder builder = new StringBuilder(string.length() +4);
+            for (long state = NaturalComparator.begin(string, end);;) {
+                state = NaturalComparator.next(string, end, state);
+                if ((state & NaturalComparator.STATE_END) != 0)
+                    return builder.toString();
+                builder.append((char)(state >>> 33));
+            }
+        }
+        
+        /**
+         * Returns the begin of the trimmed string as initial state.
+         * @param  string string
+         * @param  end    end of the trimmed string
+         * @return the initial state
+         */
+        private static long begin(String string, int end) {
+            
+            int begin = 0;
+            while (begin < end
+                    && string.charAt(begin) <= ' ')
+                begin++;
+            return begin;
+        }
+        
+        /**
+         * Returns the end of the trimmed string.
+         * @param  string string
+         * @return the end of the trimmed string
+         */
+        private static int end(String string) {
+            
+            int end = string.length();
+            while (end > 0
+                    && string.charAt(end -1) <= ' ')
+                end--;
+            return end;
+        }
+        
+        /**
+         * Determines the next character of the normalized string.
+         * The state contains the position (bit 0-31) and the flag of a
+         * numeric fragment (bit 32), the result additionally the character
+         * (bit 33-48) and the flag of the end (bit 50).
+         * @param  string string
+         * @param  end    end of the trimmed string
+         * @param  state  current state
+         * @return the next state with the character
+         */
+        private static long next(String string, int end, long state) {
+            
+            int index = (int)state;
+            if (index >= end)
+                return NaturalComparator.STATE_END;
+            char digit = string.charAt(index);
+            if (digit < '0' || digit > '9')
+                return (long)digit << 33 | (index +1);
+            if ((state & NaturalComparator.STATE_NUMBER) != 0)
+                return (long)digit << 33 | NaturalComparator.STATE_NUMBER | (index +1);
+            
+            //start of a numeric fragment: the fragment is normalized with the
+            //length as prefix and without leading zeros, if it is a long value
+            int limit = index;
+            while (limit < end
+                    && string.charAt(limit) >= '0'
+                    && string.charAt(limit) <= '9')
+                limit++;
+            int start = index;
+            while (start < limit -1
+                    && string.charAt(start) == '0')
+                start++;
+            int length = limit -start;
+            boolean valid = length < NaturalComparator.LONG_MAX.length();
+            if (length == NaturalComparator.LONG_MAX.length()) {
+                valid = true;
+                for (int loop = 0; loop < length; loop++) {
+                    int compare = string.charAt(start +loop) -NaturalComparator.LONG_MAX.charAt(loop);
+                    if (compare == 0)
+                        continue;
+                    valid = compare < 0;
+                    break;
                 }
-                buffer += fragment;
             }
-            return buffer;
+            if (!valid)
+                return (long)digit << 33 | NaturalComparator.STATE_NUMBER | (index +1);
+            char prefix = Character.toUpperCase(Character.forDigit(length, 36));
+            return (long)prefix << 33 | NaturalComparator.STATE_NUMBER | start;
         }
 
         @Override
         public int compare(String string1, String string2) {
+            
+            if (string1 == null)
+                string1 = "";
+            if (string2 == null)
+                string2 = "";
+            
+            int end1 = NaturalComparator.end(string1);
+            int end2 = NaturalComparator.end(string2);
+            long state1 = NaturalComparator.begin(string1, end1);
+            long state2 = NaturalComparator.begin(string2, end2);
+            while (true) {
+                state1 = NaturalComparator.next(string1, end1, state1);
+                state2 = NaturalComparator.next(string2, end2, state2);
+                boolean finished1 = (state1 & NaturalComparator.STATE_END) != 0;
+                boolean finished2 = (state2 & NaturalComparator.STATE_END) != 0;
+                if (finished1 || finished2)
+                    return finished1 == finished2 ? 0 : finished1 ? -1 : 1;
+                int compare = (char)(state1 >>> 33) -(char)(state2 >>> 33);
+                if (compare != 0)
+                    return compare;
+            }
+        }
+    }
+
+    /**
+     * Precompiled case-insensitive replacement of multiple search strings in
+     * one pass, based on an Aho-Corasick automaton. At each position, the
+     * leftmost and longest search string is replaced, replacements are not
+     * searched again. The effort is linear to the length of the text. The
+     * characters are compared with {@link Character#toLowerCase(char)}.
+     */
+    public static class Replacer {
+        
+        /** characters of the transitions per state (sorted) */
+        private final char[][] keys;
+        
+        /** target states of the transitions per state */
+        private final int[][] targets;
+        
+        /** failure state per state */
+        private final int[] failures;
+        
+        /** depth (length of the prefix) per state */
+        private final int[] depths;
+        
+        /** index of the longest search string that ends in the state, otherwise -1 */
+        private final int[] outputs;
+        
+        /** lengths of the search strings */
+        private final int[] lengths;
+        
+        /** replacements */
+        private final String[] replacements;
+        
+        /**
+         * Constructor, creates a new Replacer object.
+         * @param search  search strings
+         * @param replace replacements
+         */
+        private Replacer(String[] search, String[] replace) {
+            
+            List<StringBuilder> keyList = new ArrayList<>();
+            List<List<Integer>> targetList = new ArrayList<>();
+            List<Integer> outputList = new ArrayList<>();
+            List<Integer> depthList = new ArrayList<>();
+            keyList.add(new StringBuilder());
+            targetList.add(new ArrayList<>());
+            outputList.add(Integer.valueOf(-1));
+            depthList.add(Integer.valueOf(0));
+            
+            this.lengths = new int[search.length];
+            this.replacements = replace.clone();
+            for (int loop = 0; loop < search.length; loop++) {
+                int state = 0;
+                for (int index = 0; index < search[loop].length(); index++) {
+                    char digit = Character.toLowerCase(search[loop].charAt(index));
+                    int cursor = keyList.get(state).indexOf(String.valueOf(digit));
+                    if (cursor < 0) {
+                        keyList.get(state).append(digit);
+                        targetList.get(state).add(Integer.valueOf(keyList.size()));
+                        keyList.add(new StringBuilder());
+                        targetList.add(new ArrayList<>());
+                        outputList.add(Integer.valueOf(-1));
+                        depthList.add(Integer.valueOf(index +1));
+                        state = keyList.size() -1;
+                    } else state = targetList.get(state).get(cursor).intValue();
+                }
+                // with duplicates, the first search string is used
+                if (outputList.get(state).intValue() < 0)
+                    outputList.set(state, Integer.valueOf(loop));
+                this.lengths[loop] = search[loop].length();
+            }
+            
+            int size = keyList.size();
+            this.keys = new char[size][];
+            this.targets = new int[size][];
+            this.failures = new int[size];
+            this.depths = new int[size];
+            this.outputs = new int[size];
+            for (int state = 0; state < size; state++) {
+                char[] chars = keyList.get(state).toString().toCharArray();
+                Integer[] order = new Integer[chars.length];
+                for (int loop = 0; loop < order.length; loop++)
+                    order[loop] = Integer.valueOf(loop);
+                Arrays.sort(order, Comparator.comparing(index -> Character.valueOf(chars[index.intValue()])));
+                this.keys[state] = new char[chars.length];
+                this.targets[state] = new int[chars.length];
+                for (int loop = 0; loop < order.length; loop++) {
+                    this.keys[state][loop] = chars[order[loop].intValue()];
+                    this.targets[state][loop] = targetList.get(state).get(order[loop].intValue()).intValue();
+                }
+                this.depths[state] = depthList.get(state).intValue();
+                this.outputs[state] = outputList.get(state).intValue();
+            }
+            
+            // failure states in breadth-first order, states without own
+            // output inherit the longest output of the failure state
+            int[] queue = new int[size];
+            int head = 0;
+            int tail = 0;
+            for (int target : this.targets[0])
+                queue[tail++] = target;
+            while (head < tail) {
+                int state = queue[head++];
+                for (int loop = 0; loop < this.keys[state].length; loop++) {
+                    int target = this.targets[state][loop];
+                    int failure = this.failures[state];
+                    int next;
+                    while ((next = this.next(failure, this.keys[state][loop])) < 0 && failure != 0)
+                        failure = this.failures[failure];
+                    this.failures[target] = next >= 0 && next != target ? next : 0;
+                    if (this.outputs[target] < 0)
+                        this.outputs[target] = this.outputs[this.failures[target]];
+                    queue[tail++] = target;
+                }
+            }
+        }
+        
+        /**
+         * Creates a new Replacer for search strings and their replacements.
+         * @param  search  search strings
+         * @param  replace replacements (in order of the search strings)
+         * @return the created Replacer
+         * @throws IllegalArgumentException
+         *     In case of empty search strings, {@code null} or different
+         *     numbers of search strings and replacements.
+         */
+        public static Replacer create(String[] search, String[] replace) {
+            
+            if (search == null
+                    || replace == null
+                    || search.length != replace.length)
+                throw new IllegalArgumentException("Invalid search and replace");
+            for (int loop = 0; loop < search.length; loop++) {
+                if (search[loop] == null
+                        || search[loop].isEmpty())
+                    throw new IllegalArgumentException("Invalid search: " + loop);
+                if (replace[loop] == null)
+                    throw new IllegalArgumentException("Invalid replace: " + loop);
+            }
+            return new Replacer(search, replace);
+        }
+        
+        /**
+         * Returns the target state of a transition.
+         * @param  state state
+         * @param  digit character
+         * @return the target state, otherwise -1
+         */
+        private int next(int state, char digit) {
+            
+            int index = Arrays.binarySearch(this.keys[state], digit);
+            return index >= 0 ? this.targets[state][index] : -1;
+        }
+        
+        /**
+         * Replaces the search strings in a string.
+         * If nothing is replaced, the string is returned unchanged.
+         * If {@code null} is passed, {@code null} is returned.
+         * @param  string string to search through
+         * @return the replaced string
+         */
+        public String replace(String string) {
+            
+            if (string == null)
+                return null;
+            StringBuilder builder = new StringBuilder(string.length());
+            try {
+                if (this.replace(string, builder) <= 0)
+                    return string;
+            } catch (IOException exception) {
+                throw new IllegalStateException(exception);
+            }
+            return builder.toString();
+        }
+        
+        /**
+         * Replaces the search strings in a string into an {@link Appendable}.
+         * @param  string string to search through
+         * @param  output output of the replaced string
+         * @return the number of replacements
+         * @throws IOException
+         *     In case of faulty access to the output.
+         */
+        public int replace(CharSequence string, Appendable output)
+                throws IOException {
+            
+            Objects.requireNonNull(string, "String required");
+            Objects.requireNonNull(output, "Output required");
+            
+            int length = string.length();
+            int count = 0;
+            int offset = 0;
+            int state = 0;
+            int matchStart = -1;
+            int matchEnd = -1;
+            int matchIndex = -1;
+            for (int loop = 0; loop <= length; loop++) {
+                if (loop < length) {
+                    char digit = Character.toLowerCase(string.charAt(loop));
+                    int next;
+                    while ((next = this.next(state, digit)) < 0 && state != 0)
+                        state = this.failures[state];
+                    state = Math.max(next, 0);
+                }
+                
+                // a found match is final, if no longer or earlier match can
+                // follow, which is the case if the current prefix starts
+                // after the match or the end is reached
+                if (matchStart >= 0
+                        && (loop >= length || loop -this.depths[state] +1 > matchStart)) {
+                    output.append(string, offset, matchStart).append(this.replacements[matchIndex]);
+                    offset = matchEnd;
+                    count++;
+                    matchStart = -1;
+                    state = 0;
+                    loop = matchEnd -1;
+                    continue;
+                }
+                if (loop >= length)
+                    break;
+                
+                int index = this.outputs[state];
+                if (index < 0)
+                    continue;
+                int start = loop -this.lengths[index] +1;
+                if (matchStart < 0
+                        || start < matchStart
+                        || (start == matchStart && loop +1 > matchEnd)) {
+                    matchStart = start;
+                    matchEnd = loop +1;
+                    matchIndex = index;
+                }
+            }
+            output.append(string, offset, length);
+            return count;
+        }
+    }
+
+    /**
+     * Output stream that escapes all control characters below ASCII 0x20 as
+     * ISO symbols while writing, see {@link TextUtils#decorate(String)}.
+     */
+    public static class DecorateOutputStream extends FilterOutputStream {
+        
+        /**
+         * Constructor, creates a new DecorateOutputStream object.
+         * @param output output stream for the decorated data
+         */
+        public DecorateOutputStream(OutputStream output) {
+            super(Objects.requireNonNull(output, "Output stream required"));
+        }
+        
+        @Override
+        public void write(int data) throws IOException {
+            
+            data &= 0xFF;
+            if (data < 0x20)
+                this.out.write(TextUtils.DECORATE_BYTES[data]);
+            else this.out.write(data);
+        }
+        
+        @Override
+        public void write(byte[] data, int offset, int length) throws IOException {
+            
+            if (offset < 0 || length < 0 || length > data.length -offset)
+                throw new IndexOutOfBoundsException();
+            int start = offset;
+            for (int end = offset +length; offset < end; offset++) {
+                int code = data[offset] & 0xFF;
+                if (code >= 0x20)
+                    continue;
+                if (offset > start)
+                    this.out.write(data, start, offset -start);
+                this.out.write(TextUtils.DECORATE_BYTES[code]);
+                start = offset +1;
+            }
+            if (offset > start)
+                this.out.write(data, start, offset -start);
+        }
+    }
+    
+    /**
+     * Writer that escapes all control characters below ASCII 0x20 as ISO
+     * symbols while writing, see {@link TextUtils#decorate(String)}.
+     */
+    public static class DecorateWriter extends FilterWriter {
+        
+        /**
+         * Constructor, creates a new DecorateWriter object.
+         * @param writer writer for the decorated text
+         */
+        public DecorateWriter(Writer writer) {
+            super(Objects.requireNonNull(writer, "Writer required"));
+        }
+        
+        @Override
+        public void write(int data) throws IOException {
+            
+            if ((char)data < 0x20)
+                this.out.write(TextUtils.DECORATE[(char)data]);
+            else this.out.write(data);
+        }
+        
+        @Override
+        public void write(char[] data, int offset, int length) throws IOException {
+            
+            if (offset < 0 || length < 0 || length > data.length -offset)
+                throw new IndexOutOfBoundsException();
+            int start = offset;
+            for (int end = offset +length; offset < end; offset++) {
+                if (data[offset] >= 0x20)
+                    continue;
+                if (offset > start)
+                    this.out.write(data, start, offset -start);
+                this.out.write(TextUtils.DECORATE[data[offset]]);
+                start = offset +1;
+            }
+            if (offset > start)
+                this.out.write(data, start, offset -start);
+        }
+        
+        @Override
+        public void write(String data, int offset, int length) throws IOException {
+            
+            if (offset < 0 || length < 0 || length > data.length() -offset)
+                throw new IndexOutOfBoundsException();
+            int start = offset;
+            for (int end = offset +length; offset < end; offset++) {
+                if (data.charAt(offset) >= 0x20)
+                    continue;
+                if (offset > start)
+                    this.out.write(data, start, offset -start);
+                this.out.write(TextUtils.DECORATE[data.charAt(offset)]);
+                start = offset +1;
+            }
+            if (offset > start)
+                this.out.write(data, start, offset -start);
+        }
+    }
+    
+    /**
+     * Index of strings by their phonetic value.
+     * The phonetic values are determined in parallel, the entries of a
+     * phonetic value are kept in the order of the strings. The entries are
+     * determined by the phonetic value in constant time.
+     */
+    public static class PhoneticIndex {
+        
+        /** language of the phonetic values */
+        private final Locale locale;
+        
+        /** entries per phonetic value */
+        private final Map<String, List<String>> entries;
+        
+        /**
+         * Constructor, creates a new PhoneticIndex object.
+         * @param locale  language
+         * @param entries entries per phonetic value
+         */
+        private PhoneticIndex(Locale locale, Map<String, List<String>> entries) {
+            
+            this.locale  = locale;
+            this.entries = entries;
+        }
+        
+        /**
+         * Creates a new PhoneticIndex for the strings in the specified
+         * language. Entries {@code null} are ignored.<br>
+         * Supported languages: DE
+         * @param  strings strings to be indexed
+         * @param  locale  language
+         * @return the created PhoneticIndex
+         * @throws IllegalArgumentException
+         *     For an unsupported language / locale.
+         */
+        public static PhoneticIndex create(Collection<String> strings, Locale locale) {
+            
+            Objects.requireNonNull(strings, "Strings required");
+            Objects.requireNonNull(locale, "Locale required");
+            
+            //unsupported languages cause an IllegalArgumentException
+            if (!Locale.GERMAN.getLanguage().equals(locale.getLanguage()))
+                throw new IllegalArgumentException("Language not supported");
 
-            string1 = NaturalComparator.normalize(string1);
-            string2 = NaturalComparator.normalize(string2);
+            //the phonetic values are determined in parallel, the buffers are
+            //reused per thread, the grouping keeps the order of the strings
+            String[] values = strings.toArray(new String[0]);
+            String[] codes = new String[values.length];
+            ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(StringBuilder::new);
+            IntStream.range(0, values.length).parallel().forEach(index -> {
+                if (values[index] != null)
+                    codes[index] = TextUtils.phonetic(values[index], buffers.get());
+            });
+            Map<String, List<String>> entries = new HashMap<>();
+            for (int loop = 0; loop < values.length; loop++)
+                if (codes[loop] != null)
+                    entries.computeIfAbsent(codes[loop], code -> new ArrayList<>()).add(values[loop]);
+            entries.replaceAll((code, list) -> Collections.unmodifiableList(list));
+            return new PhoneticIndex(locale, entries);
+        }
+        
+        /** 
+         * Returns the language of the phonetic values.
+         * @return the language of the phonetic values
+         */
+        public Locale getLocale() {
+            return this.locale;
+        }
+        
+        /**
+         * Returns the number of phonetic values.
+         * @return the number of phonetic values
+         */
+        public int size() {
+            return this.entries.size();
+        }
+        
+        /**
+         * Returns all phonetic values.
+         * @return all phonetic values
+         */
+        public Set<String> getCodes() {
+            return Collections.unmodifiableSet(this.entries.keySet());
+        }
+        
+        /**
+         * Returns the entries of a phonetic value.
+         * @param  code phonetic value
+         * @return the entries of the phonetic value, otherwise an empty list
+         */
+        public List<String> getEntries(String code) {
+            return this.entries.getOrDefault(code, Collections.emptyList());
+        }
+        
+        /**
+         * Returns the entries with the same phonetic value as the string.
+         * If {@code null} is passed, an empty list is returned.
+         * @param  string string to search for
+         * @return the entries with the same phonetic value
+         */
+        public List<String> search(String string) {
             
-            return string1.compareTo(string2);
+            if (string == null)
+                return Collections.emptyList();
+            return this.getEntries(TextUtils.phonetic(string, new StringBuilder(string.length())));
         }
     }
-}
\ No newline at end of file
+}
@@ -4,7 +4,7 @@
  * Diese Software unterliegt der Version 2 der GNU General Public License.
  *
  * Seanox Test SDK
- * Copyright (C) 2018 Seanox Software Solutions
+ * Copyright (C) 2026 Seanox Software Solutions
  *
  * This program is free software; you can redistribute it and/or modify it
  * under the terms of version 2 of the GNU General Public License as published
@@ -21,28 +21,53 @@
  */
 package com.seanox.test.utils;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+
 import org.junit.Assert;
 
 /** 
  * Simple time measurement and testing.<br>
  * <br>
- * Timing 1.0 20180102<br>
- * Copyright (C) 2018 Seanox Software Solutions<br>
+ * The measurement is based on the monotonic {@link System#nanoTime()} and
+ * uses primitive fields, so that start, stop and laps do not allocate
+ * objects. Laps are recorded in an array that is preallocated with the
+ * creation and only enlarged (allocated) if it is full.<br>
+ * <br>
+ * Timing 1.1 20261019<br>
+ * Copyright (C) 2026 Seanox Software Solutions<br>
  * All rights reserved.
  *
  * @author  Seanox Software Solutions
- * @version 1.0 20180102
+ * @version 1.1 20261019
  */
 public class Timing {
 
-    /** start time */
-    private Long startTime;
+    /** start time of the current run in nanoseconds */
+    private long startTime;
+    
+    /** measured time of the previous runs in nanoseconds */
+    private long elapsedTime;
+    
+    /** {@code true} if the measurement is running */
+    private boolean running;
+    
+    /** default number of preallocated laps */
+    private static final int LAPS = 16;
     
-    /** stop time */
-    private Long stopTime;
+    /** split times of the laps in nanoseconds */
+    private long[] laps;
     
-    /** Constructor, creates a new Timing object. */
-    private Timing() {
+    /** number of recorded laps */
+    private int lapCount;
+    
+    /**
+     * Constructor, creates a new Timing object.
+     * @param laps number of preallocated laps
+     */
+    private Timing(int laps) {
+        this.laps = new long[laps];
         this.reset();
     }
     
@@ -56,42 +81,66 @@ public class Timing {
     }
     
     /**
-     * Creates a new Timing object.
+     * Creates a new Timing object with 16 preallocated laps.
      * With parameter 'start', the measurement will start automatically.
+     * If more laps are recorded, the laps are enlarged.
      * @param  start {@code true} starts with the creation
      * @return the created Timing object
      */        
     public static Timing create(boolean start) {
+        return Timing.create(start, Timing.LAPS);
+    }
+
+    /**
+     * Creates a new Timing object with a preallocated number of laps.
+     * With parameter 'start', the measurement will start automatically.
+     * Up to the preallocated number, laps are recorded without allocation.
+     * If more laps are recorded, the laps are enlarged.
+     * @param  start {@code true} starts with the creation
+     * @param  laps  number of preallocated laps
+     * @return the created Timing object
+     * @throws IllegalArgumentException
+     *     In case of a negative number of laps.
+     */        
+    public static Timing create(boolean start, int laps) {
+        
+        if (laps < 0)
+            throw new IllegalArgumentException("Invalid number of laps");
         
-        Timing timing = new Timing();
+        Timing timing = new Timing(laps);
         if (start)
             timing.start();
         return timing;
     }
 
-    /** Starts the measurement, if it is not running yet. */
+    /**
+     * Starts the measurement, if it is not running yet.
+     * A stopped measurement is continued.
+     */
     public void start() {
         
-        long delta = 0;
-        if (this.stopTime != null)
-            delta = this.stopTime.longValue() -this.startTime.longValue();
-        
-        if (this.startTime == null)
-            this.startTime = Long.valueOf(System.currentTimeMillis() -delta);
+        if (this.running)
+            return;
+        this.startTime = System.nanoTime();
+        this.running = true;
     }
     
     /** Stopps the measurement, if it is running. */
     public void stop() {
         
-        if (this.startTime != null)
-            this.stopTime = Long.valueOf(System.currentTimeMillis());
+        if (!this.running)
+            return;
+        this.elapsedTime += System.nanoTime() -this.startTime;
+        this.running = false;
     }
     
-    /** Resets the measurement. */
+    /** Resets the measurement and the laps. */
     public void reset() {
         
-        this.startTime = null;
-        this.stopTime  = null;
+        this.startTime   = 0;
+        this.elapsedTime = 0;
+        this.running     = false;
+        this.lapCount    = 0;
     }
     
     /** Restarts the measurement (reset + start). */
@@ -101,15 +150,87 @@ public class Timing {
         this.start();
     }
     
+    /**
+     * Gets the current measured time in nanoseconds.
+     * @return the current measured time in nanoseconds
+     */
+    public long timeNanos() {
+        
+        if (!this.running)
+            return this.elapsedTime;
+        return this.elapsedTime +System.nanoTime() -this.startTime;
+    }
+    
     /**
      * Gets the current measured time in milliseconds.
      * @return the current measured time in milliseconds
      */
     public long timeMillis() {
-
-        if (this.startTime == null)
-            return 0;
-        return System.currentTimeMillis() -this.startTime.longValue();
+        return this.timeNanos() /1000000L;
+    }
+    
+    /**
+     * Records a lap with the current measured time as split time.
+     * If all preallocated laps are used, the laps are enlarged.
+     * @return the time of the lap in nanoseconds
+     */
+    public long lap() {
+        
+        long time = this.timeNanos();
+        if (this.lapCount >= this.laps.length)
+            this.laps = Arrays.copyOf(this.laps, Math.max(Timing.LAPS, this.laps.length *2));
+        this.laps[this.lapCount++] = time;
+        return this.lapCount > 1 ? time -this.laps[this.lapCount -2] : time;
+    }
+    
+    /**
+     * Gets the number of recorded laps.
+     * @return the number of recorded laps
+     */
+    public int getLapCount() {
+        return this.lapCount;
+    }
+    
+    /**
+     * Gets the time of a recorded lap in nanoseconds.
+     * @param  index index of the lap
+     * @return the time of the lap in nanoseconds
+     * @throws IndexOutOfBoundsException
+     *     If the lap has not been recorded.
+     */
+    public long getLap(int index) {
+        
+        long split = this.getSplit(index);
+        return index > 0 ? split -this.laps[index -1] : split;
+    }
+    
+    /**
+     * Gets the split time of a recorded lap in nanoseconds, which is the
+     * measured time up to the end of the lap.
+     * @param  index index of the lap
+     * @return the split time of the lap in nanoseconds
+     * @throws IndexOutOfBoundsException
+     *     If the lap has not been recorded.
+     */
+    public long getSplit(int index) {
+        
+        if (index < 0 || index >= this.lapCount)
+            throw new IndexOutOfBoundsException("Invalid lap: " + index);
+        return this.laps[index];
+    }
+    
+    /**
+     * Formats a time in nanoseconds with the largest unit without loss.
+     * @param  nanos time in nanoseconds
+     * @return the formatted time
+     */
+    private static String format(long nanos) {
+        
+        if (nanos % 1000000L == 0)
+            return (nanos /1000000L) + " ms";
+        if (nanos % 1000L == 0)
+            return (nanos /1000L) + " us";
+        return nanos + " ns";
     }
     
     /**
@@ -135,6 +256,35 @@ public class Timing {
             Assert.assertEquals("out of " + millisecondsFrom + " - " + millisecondsTo + " ms", time + " ms");
     } 
 
+    /**
+     * Checks whether the currently measured time is greater than or equal
+     * to the specified duration.
+     * @param duration duration
+     */
+    public void assertTimeOut(Duration duration) {
+        
+        Objects.requireNonNull(duration, "Duration required");
+        long time = this.timeNanos();
+        if (time < duration.toNanos())
+            Assert.assertEquals("out of " + Timing.format(duration.toNanos()), Timing.format(time));
+    }
+
+    /**
+     * Checks whether the currently measured time is outside of the
+     * specified time frame.
+     * @param durationFrom duration from
+     * @param durationTo   duration to
+     */
+    public void assertTimeOut(Duration durationFrom, Duration durationTo) {
+        
+        Objects.requireNonNull(durationFrom, "Duration from required");
+        Objects.requireNonNull(durationTo, "Duration to required");
+        long time = this.timeNanos();
+        if (time >= durationFrom.toNanos() && time <= durationTo.toNanos())
+            Assert.assertEquals("out of " + Timing.format(durationFrom.toNanos()) + " - " + Timing.format(durationTo.toNanos()),
+                    Timing.format(time));
+    } 
+
     /**
      * Checks whether the currently measured time is less than or equal to
      * the specified millisecond.
@@ -157,4 +307,33 @@ public class Timing {
         if (time < millisecondsFrom || time > millisecondsTo)
             Assert.assertEquals("in " + millisecondsFrom + " - " + millisecondsTo + " ms", time + " ms");
     }   
-}
\ No newline at end of file
+
+    /**
+     * Checks whether the currently measured time is less than or equal to
+     * the specified duration.
+     * @param duration duration
+     */
+    public void assertTimeIn(Duration duration) {
+        
+        Objects.requireNonNull(duration, "Duration required");
+        long time = this.timeNanos();
+        if (time > duration.toNanos())
+            Assert.assertEquals("in " + Timing.format(duration.toNanos()), Timing.format(time));
+    }   
+    
+    /**
+     * Checks whether the currently measured time is within the specified
+     * time frame.
+     * @param durationFrom duration from
+     * @param durationTo   duration to
+     */
+    public void assertTimeIn(Duration durationFrom, Duration durationTo) {
+        
+        Objects.requireNonNull(durationFrom, "Duration from required");
+        Objects.requireNonNull(durationTo, "Duration to required");
+        long time = this.timeNanos();
+        if (time < durationFrom.toNanos() || time > durationTo.toNanos())
+            Assert.assertEquals("in " + Timing.format(durationFrom.toNanos()) + " - " + Timing.format(durationTo.toNanos()),
+                    Timing.format(time));
+    }   
+}